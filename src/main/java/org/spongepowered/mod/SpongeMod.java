@@ -30,6 +30,7 @@
 import com.google.common.eventbus.Subscribe;
 import com.google.inject.Guice;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.world.WorldServer;
 import net.minecraftforge.common.ForgeModContainer;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fml.client.FMLFileResourcePack;
@@ -57,9 +58,14 @@
 import org.slf4j.Logger;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.command.CommandCallable;
 import org.spongepowered.api.command.CommandManager;
 import org.spongepowered.api.effect.potion.PotionEffectType;
 import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.network.ClientConnectionEvent;
+import org.spongepowered.api.event.world.UnloadWorldEvent;
 import org.spongepowered.api.item.Enchantment;
 import org.spongepowered.api.item.ItemType;
 import org.spongepowered.api.plugin.Plugin;
@@ -91,16 +97,29 @@
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.storage.SpongePlayerDataHandler;
+import org.spongepowered.mod.command.AsyncDimensionCommand;
+import org.spongepowered.mod.command.ChannelMetricsCommand;
+import org.spongepowered.mod.command.ChunkLoadQueueCommand;
+import org.spongepowered.mod.command.NeighborNotifyCommand;
+import org.spongepowered.mod.command.PregenCommand;
+import org.spongepowered.mod.command.SpongeChildCommands;
+import org.spongepowered.mod.command.WorldLeakCommand;
 import org.spongepowered.mod.event.SpongeEventHooks;
 import org.spongepowered.mod.event.SpongeModEventManager;
 import org.spongepowered.mod.guice.SpongeGuiceModule;
 import org.spongepowered.mod.interfaces.IMixinVillagerProfession;
+import org.spongepowered.mod.network.ChannelMetrics;
 import org.spongepowered.mod.network.SpongeModMessageHandler;
 import org.spongepowered.mod.plugin.SpongeModPluginContainer;
 import org.spongepowered.mod.registry.SpongeForgeModuleRegistry;
 import org.spongepowered.mod.registry.SpongeForgeVillagerRegistry;
 import org.spongepowered.mod.registry.SpongeGameData;
 import org.spongepowered.mod.service.world.SpongeChunkTicketManager;
+import org.spongepowered.mod.world.ChunkPrefetcher;
+import org.spongepowered.mod.world.DimensionInitializer;
+import org.spongepowered.mod.world.PlayerChunkLoadQueue;
+import org.spongepowered.mod.world.WorldLeakDetector;
+import org.spongepowered.mod.world.gen.ChunkPregenerator;
 
 import java.io.File;
 import java.io.IOException;
@@ -223,6 +242,14 @@ public void onPreInit(FMLPreInitializationEvent event) {
             registerService(ChunkTicketManager.class, new SpongeChunkTicketManager());
             SpongeBootstrap.initializeServices();
             SpongeBootstrap.initializeCommands();
+            SpongeChildCommands.register(this, ImmutableMap.<String, CommandCallable>builder()
+                    .put("pregen", PregenCommand.create())
+                    .put("channelmetrics", ChannelMetricsCommand.create())
+                    .put("coalesceneighbors", NeighborNotifyCommand.create())
+                    .put("chunkqueue", ChunkLoadQueueCommand.create())
+                    .put("worldleaks", WorldLeakCommand.create())
+                    .put("asyncdimensions", AsyncDimensionCommand.create())
+                    .build());
             SpongeImpl.getRegistry().preInit();
             SpongeModMessageHandler.init();
 
@@ -250,9 +277,28 @@ public void onPreInit(FMLPreInitializationEvent event) {
     public void onTick(TickEvent.ServerTickEvent event) {
         if (event.phase == TickEvent.Phase.START) {
             SpongeScheduler.getInstance().tickSyncScheduler();
+        } else if (event.phase == TickEvent.Phase.END) {
+            ChunkPregenerator.getInstance().tick();
+            PlayerChunkLoadQueue.tickAll();
+            ChunkPrefetcher.getInstance().tick();
+            DimensionInitializer.getInstance().tick();
         }
     }
 
+    @Listener(order = Order.POST)
+    public void onWorldUnload(UnloadWorldEvent event) {
+        final WorldServer worldServer = (WorldServer) event.getTargetWorld();
+        PlayerChunkLoadQueue.remove(worldServer);
+        ChunkPrefetcher.getInstance().onWorldUnload(worldServer);
+        ChunkPregenerator.getInstance().onWorldUnload(worldServer);
+        WorldLeakDetector.getInstance().track(worldServer);
+    }
+
+    @Listener(order = Order.POST)
+    public void onDisconnect(ClientConnectionEvent.Disconnect event) {
+        ChannelMetrics.removePlayer(event.getTargetEntity().getUniqueId());
+    }
+
     @Subscribe
     public void onInitialization(FMLInitializationEvent event) {
         try {
@@ -312,6 +358,7 @@ public void onServerStarted(FMLServerStartedEvent event) {
     @Subscribe
     public void onServerStopped(FMLServerStoppedEvent event) throws IOException {
         try {
+            ChunkPregenerator.getInstance().stopAll();
             CommandManager service = this.game.getCommandManager();
             service.getCommands().stream().filter(mapping -> mapping.getCallable() instanceof MinecraftCommandWrapper)
                     .forEach(service::removeMapping);
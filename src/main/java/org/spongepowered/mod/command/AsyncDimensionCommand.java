@@ -0,0 +1,64 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.command;
+
+import static org.spongepowered.api.command.args.GenericArguments.bool;
+import static org.spongepowered.api.command.args.GenericArguments.optional;
+
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.spec.CommandSpec;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.mod.world.DimensionInitializer;
+
+import java.util.Optional;
+
+/**
+ * The command toggling whether player transfers into unloaded dimensions
+ * wait for the {@link DimensionInitializer}.
+ */
+public final class AsyncDimensionCommand {
+
+    private AsyncDimensionCommand() {
+    }
+
+    public static CommandSpec create() {
+        return CommandSpec.builder()
+                .description(Text.of("Shows or toggles whether players wait for unloaded dimensions to load asynchronously"))
+                .permission("sponge.command.asyncdimensions")
+                .arguments(optional(bool(Text.of("enabled"))))
+                .executor((src, args) -> {
+                    final DimensionInitializer initializer = DimensionInitializer.getInstance();
+                    final Optional<Boolean> enabled = args.getOne("enabled");
+                    if (enabled.isPresent()) {
+                        initializer.setDeferringTransfers(enabled.get());
+                    }
+                    src.sendMessage(Text.of("Deferring transfers into unloaded dimensions is ",
+                            initializer.isDeferringTransfers() ? "enabled" : "disabled"));
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+}
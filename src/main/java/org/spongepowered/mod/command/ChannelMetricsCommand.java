@@ -0,0 +1,131 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.command;
+
+import static org.spongepowered.api.command.args.GenericArguments.optional;
+import static org.spongepowered.api.command.args.GenericArguments.string;
+
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.command.CommandException;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.CommandContext;
+import org.spongepowered.api.command.spec.CommandSpec;
+import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.api.service.user.UserStorageService;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.mod.network.ChannelMetrics;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The command controlling and showing the {@link ChannelMetrics} of plugin
+ * channels.
+ */
+public final class ChannelMetricsCommand {
+
+    private static final int MAX_LISTED_PLAYERS = 10;
+
+    private ChannelMetricsCommand() {
+    }
+
+    public static CommandSpec create() {
+        return CommandSpec.builder()
+                .description(Text.of("Shows the network traffic of plugin channels"))
+                .permission("sponge.command.channelmetrics")
+                .child(CommandSpec.builder()
+                        .description(Text.of("Starts recording plugin channel traffic"))
+                        .executor((src, args) -> {
+                            ChannelMetrics.setEnabled(true);
+                            src.sendMessage(Text.of("Recording plugin channel traffic"));
+                            return CommandResult.success();
+                        })
+                        .build(), "on")
+                .child(CommandSpec.builder()
+                        .description(Text.of("Stops recording plugin channel traffic"))
+                        .executor((src, args) -> {
+                            ChannelMetrics.setEnabled(false);
+                            src.sendMessage(Text.of("Stopped recording plugin channel traffic"));
+                            return CommandResult.success();
+                        })
+                        .build(), "off")
+                .child(CommandSpec.builder()
+                        .description(Text.of("Clears the recorded plugin channel traffic"))
+                        .executor((src, args) -> {
+                            ChannelMetrics.resetAll();
+                            src.sendMessage(Text.of("Cleared the recorded plugin channel traffic"));
+                            return CommandResult.success();
+                        })
+                        .build(), "reset")
+                .child(CommandSpec.builder()
+                        .description(Text.of("Shows the recorded traffic of all channels, or the details of one"))
+                        .arguments(optional(string(Text.of("channel"))))
+                        .executor(ChannelMetricsCommand::show)
+                        .build(), "show")
+                .build();
+    }
+
+    private static CommandResult show(CommandSource src, CommandContext args) throws CommandException {
+        if (!ChannelMetrics.isEnabled()) {
+            src.sendMessage(Text.of("Plugin channel traffic is not being recorded"));
+        }
+        final Map<String, ChannelMetrics> channels = ChannelMetrics.getChannels();
+        final String channelName = args.<String>getOne("channel").orElse(null);
+        if (channelName == null) {
+            channels.values().stream()
+                    .sorted(Comparator.comparingLong((ChannelMetrics metrics) -> metrics.getTotal().getOutboundBytes()).reversed())
+                    .forEach(metrics -> src.sendMessage(Text.of(metrics.getChannel(), ": ", format(metrics.getTotal()))));
+            return CommandResult.success();
+        }
+        final ChannelMetrics metrics = channels.get(channelName);
+        if (metrics == null) {
+            throw new CommandException(Text.of("Unknown channel ", channelName));
+        }
+        src.sendMessage(Text.of(metrics.getChannel(), ": ", format(metrics.getTotal())));
+        src.sendMessage(Text.of("  encode ", metrics.getEncodeNanos() / 1000000, " ms, decode ", metrics.getDecodeNanos() / 1000000, " ms"));
+        final long[] histogram = metrics.getSizeHistogram();
+        for (int i = 0; i < histogram.length; i++) {
+            if (histogram[i] != 0) {
+                src.sendMessage(Text.of("  ", i == 0 ? 0 : 1L << (i - 1), "-", (1L << i) - 1, " bytes: ", histogram[i], " sampled"));
+            }
+        }
+        final UserStorageService userStorage = Sponge.getServiceManager().provideUnchecked(UserStorageService.class);
+        metrics.getPlayers().entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<UUID, ChannelMetrics.Traffic> entry) -> entry.getValue().getOutboundBytes()
+                        + entry.getValue().getInboundBytes()).reversed())
+                .limit(MAX_LISTED_PLAYERS)
+                .forEach(entry -> src.sendMessage(Text.of("  ", userStorage.get(entry.getKey()).map(User::getName).orElse(entry.getKey().toString()),
+                        ": ", format(entry.getValue()))));
+        return CommandResult.success();
+    }
+
+    private static String format(ChannelMetrics.Traffic traffic) {
+        return String.format("out %d messages, %.1f KB; in %d messages, %.1f KB", traffic.getOutboundMessages(),
+                traffic.getOutboundBytes() / 1024.0, traffic.getInboundMessages(), traffic.getInboundBytes() / 1024.0);
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.command;
+
+import static org.spongepowered.api.command.args.GenericArguments.bool;
+import static org.spongepowered.api.command.args.GenericArguments.doubleNum;
+import static org.spongepowered.api.command.args.GenericArguments.flags;
+import static org.spongepowered.api.command.args.GenericArguments.integer;
+import static org.spongepowered.api.command.args.GenericArguments.none;
+import static org.spongepowered.api.command.args.GenericArguments.optional;
+
+import net.minecraft.world.WorldServer;
+import org.spongepowered.api.command.CommandException;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.CommandContext;
+import org.spongepowered.api.command.spec.CommandSpec;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.mod.world.ChunkPrefetcher;
+import org.spongepowered.mod.world.PlayerChunkLoadQueue;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The command showing the state of the {@link PlayerChunkLoadQueue}s and
+ * controlling the {@link ChunkPrefetcher}.
+ */
+public final class ChunkLoadQueueCommand {
+
+    private ChunkLoadQueueCommand() {
+    }
+
+    public static CommandSpec create() {
+        return CommandSpec.builder()
+                .description(Text.of("Shows the asynchronous chunk loads queued for players"))
+                .permission("sponge.command.chunkqueue")
+                .child(CommandSpec.builder()
+                        .description(Text.of("Shows or configures prefetching of the chunks ahead of fast moving players"))
+                        .arguments(flags()
+                                .valueFlag(doubleNum(Text.of("cone")), "-cone")
+                                .valueFlag(integer(Text.of("lookahead")), "-lookahead")
+                                .valueFlag(integer(Text.of("budget")), "-budget")
+                                .buildWith(optional(bool(Text.of("enabled")))))
+                        .executor(ChunkLoadQueueCommand::prefetch)
+                        .build(), "prefetch")
+                .arguments(flags()
+                        .valueFlag(integer(Text.of("limit")), "-limit")
+                        .buildWith(none()))
+                .executor((src, args) -> {
+                    final Optional<Integer> limit = args.getOne("limit");
+                    if (limit.isPresent()) {
+                        try {
+                            PlayerChunkLoadQueue.setMaxInFlight(limit.get());
+                        } catch (IllegalArgumentException e) {
+                            throw new CommandException(Text.of(e.getMessage()), e);
+                        }
+                    }
+                    src.sendMessage(Text.of("Up to ", PlayerChunkLoadQueue.getMaxInFlight(), " loads in flight per world"));
+                    for (Map.Entry<WorldServer, PlayerChunkLoadQueue> entry : PlayerChunkLoadQueue.getQueues().entrySet()) {
+                        final PlayerChunkLoadQueue queue = entry.getValue();
+                        src.sendMessage(Text.of(entry.getKey().getWorldInfo().getWorldName(), ": ", queue.getQueueDepth(), " queued, ",
+                                queue.getInFlight(), " loading, ", String.format("%.1f", queue.getAverageWaitMillis()), " ms average wait, ",
+                                queue.getCancelledLoads(), " cancelled"));
+                    }
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandResult prefetch(CommandSource src, CommandContext args) throws CommandException {
+        final ChunkPrefetcher prefetcher = ChunkPrefetcher.getInstance();
+        try {
+            args.<Double>getOne("cone").ifPresent(prefetcher::setConeAngle);
+            args.<Integer>getOne("lookahead").ifPresent(seconds -> prefetcher.setLookaheadTicks(seconds * 20));
+            args.<Integer>getOne("budget").ifPresent(prefetcher::setLoadsPerTick);
+        } catch (IllegalArgumentException e) {
+            throw new CommandException(Text.of(e.getMessage()), e);
+        }
+        args.<Boolean>getOne("enabled").ifPresent(prefetcher::setEnabled);
+        src.sendMessage(Text.of("Chunk prefetching is ", prefetcher.isEnabled() ? "enabled" : "disabled", ": ",
+                String.format("%.0f", prefetcher.getConeAngle()), " degree cone, ", prefetcher.getLookaheadTicks() / 20, " s lookahead, ",
+                prefetcher.getLoadsPerTick(), " loads/tick, ", prefetcher.getPrefetchedChunks(), " chunks prefetched"));
+        return CommandResult.success();
+    }
+
+}
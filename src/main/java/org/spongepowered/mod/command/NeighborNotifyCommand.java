@@ -0,0 +1,71 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.command;
+
+import static org.spongepowered.api.command.args.GenericArguments.bool;
+import static org.spongepowered.api.command.args.GenericArguments.optional;
+import static org.spongepowered.api.command.args.GenericArguments.seq;
+import static org.spongepowered.api.command.args.GenericArguments.world;
+
+import net.minecraft.world.WorldServer;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.command.CommandException;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.spec.CommandSpec;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.world.storage.WorldProperties;
+import org.spongepowered.mod.world.NeighborNotifyCoalescer;
+
+import java.util.Optional;
+
+/**
+ * The command toggling the {@link NeighborNotifyCoalescer} of a world.
+ */
+public final class NeighborNotifyCommand {
+
+    private NeighborNotifyCommand() {
+    }
+
+    public static CommandSpec create() {
+        return CommandSpec.builder()
+                .description(Text.of("Shows or toggles whether plugins skip repeated neighbor notification events in a world"))
+                .permission("sponge.command.coalesceneighbors")
+                .arguments(seq(world(Text.of("world")), optional(bool(Text.of("enabled")))))
+                .executor((src, args) -> {
+                    final WorldProperties properties = args.<WorldProperties>getOne("world").get();
+                    final WorldServer world = (WorldServer) Sponge.getServer().getWorld(properties.getUniqueId())
+                            .orElseThrow(() -> new CommandException(Text.of(properties.getWorldName(), " is not loaded")));
+                    final Optional<Boolean> enabled = args.getOne("enabled");
+                    if (enabled.isPresent()) {
+                        NeighborNotifyCoalescer.setEnabled(world, enabled.get());
+                    }
+                    src.sendMessage(Text.of("Neighbor notification coalescing is ", NeighborNotifyCoalescer.isEnabled(world) ? "enabled" : "disabled",
+                            " in ", properties.getWorldName()));
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+}
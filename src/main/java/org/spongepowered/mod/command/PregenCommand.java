@@ -0,0 +1,128 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.command;
+
+import static org.spongepowered.api.command.args.GenericArguments.doubleNum;
+import static org.spongepowered.api.command.args.GenericArguments.flags;
+import static org.spongepowered.api.command.args.GenericArguments.integer;
+import static org.spongepowered.api.command.args.GenericArguments.optional;
+import static org.spongepowered.api.command.args.GenericArguments.seq;
+import static org.spongepowered.api.command.args.GenericArguments.world;
+
+import net.minecraft.world.WorldServer;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.command.CommandException;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.CommandContext;
+import org.spongepowered.api.command.spec.CommandSpec;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.world.World;
+import org.spongepowered.api.world.storage.WorldProperties;
+import org.spongepowered.mod.world.gen.ChunkPregenerator;
+
+import java.util.Map;
+
+/**
+ * The command controlling the {@link ChunkPregenerator}.
+ */
+public final class PregenCommand {
+
+    private static final int DEFAULT_CHUNKS_PER_TICK = 8;
+    private static final double DEFAULT_TARGET_MSPT = 45;
+
+    private PregenCommand() {
+    }
+
+    public static CommandSpec create() {
+        return CommandSpec.builder()
+                .description(Text.of("Pregenerates the chunks of a world"))
+                .permission("sponge.command.pregen")
+                .child(CommandSpec.builder()
+                        .description(Text.of("Starts or resumes pregenerating the chunks around a center"))
+                        .arguments(flags()
+                                .valueFlag(integer(Text.of("rate")), "-rate")
+                                .valueFlag(doubleNum(Text.of("mspt")), "-mspt")
+                                .buildWith(seq(world(Text.of("world")), integer(Text.of("radius")),
+                                        optional(seq(integer(Text.of("x")), integer(Text.of("z")))))))
+                        .executor((src, args) -> {
+                            final WorldProperties properties = args.<WorldProperties>getOne("world").get();
+                            final int centerX = args.<Integer>getOne("x").orElse(properties.getSpawnPosition().getX() >> 4);
+                            final int centerZ = args.<Integer>getOne("z").orElse(properties.getSpawnPosition().getZ() >> 4);
+                            final int radius = args.<Integer>getOne("radius").get();
+                            final int rate = args.<Integer>getOne("rate").orElse(DEFAULT_CHUNKS_PER_TICK);
+                            final double mspt = args.<Double>getOne("mspt").orElse(DEFAULT_TARGET_MSPT);
+                            try {
+                                ChunkPregenerator.getInstance().start(getWorld(properties), centerX, centerZ, radius, rate, mspt);
+                            } catch (IllegalArgumentException | IllegalStateException e) {
+                                throw new CommandException(Text.of(e.getMessage()), e);
+                            }
+                            src.sendMessage(Text.of("Pregenerating ", properties.getWorldName(), " within ", radius, " chunks of ",
+                                    centerX, ", ", centerZ));
+                            return CommandResult.success();
+                        })
+                        .build(), "start")
+                .child(CommandSpec.builder()
+                        .description(Text.of("Stops pregenerating a world, keeping its checkpoint"))
+                        .arguments(world(Text.of("world")))
+                        .executor((src, args) -> {
+                            final WorldProperties properties = args.<WorldProperties>getOne("world").get();
+                            if (!ChunkPregenerator.getInstance().stop(getWorld(properties))) {
+                                throw new CommandException(Text.of(properties.getWorldName(), " is not being pregenerated"));
+                            }
+                            src.sendMessage(Text.of("Stopped pregenerating ", properties.getWorldName()));
+                            return CommandResult.success();
+                        })
+                        .build(), "stop")
+                .child(CommandSpec.builder()
+                        .description(Text.of("Shows the progress of running pregenerations"))
+                        .executor(PregenCommand::status)
+                        .build(), "status")
+                .build();
+    }
+
+    private static CommandResult status(CommandSource src, CommandContext args) {
+        final ChunkPregenerator pregenerator = ChunkPregenerator.getInstance();
+        if (!pregenerator.isRunning()) {
+            src.sendMessage(Text.of("No pregeneration is running"));
+        }
+        for (ChunkPregenerator.Task task : pregenerator.getTasks()) {
+            src.sendMessage(Text.of(task.getWorld().getWorldInfo().getWorldName(), ": ", task.getCompletedChunks(), "/", task.getTotalChunks(),
+                    " chunks, ", String.format("%.1f", task.getChunksPerSecond()), " chunks/s, ", task.getChunksPerTick(), " chunks/tick, ",
+                    task.getMemoryHighWater() / (1024 * 1024), " MB peak memory"));
+            for (Map.Entry<String, Double> entry : task.getAveragePopulatorTimes().entrySet()) {
+                src.sendMessage(Text.of("  ", entry.getKey(), ": ", String.format("%.3f", entry.getValue()), " ms/chunk"));
+            }
+        }
+        return CommandResult.success();
+    }
+
+    private static WorldServer getWorld(WorldProperties properties) throws CommandException {
+        final World world = Sponge.getServer().getWorld(properties.getUniqueId())
+                .orElseThrow(() -> new CommandException(Text.of(properties.getWorldName(), " is not loaded")));
+        return (WorldServer) world;
+    }
+
+}
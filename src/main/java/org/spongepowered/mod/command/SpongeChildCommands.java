@@ -0,0 +1,136 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.command;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.spongepowered.api.command.CommandCallable;
+import org.spongepowered.api.command.CommandException;
+import org.spongepowered.api.command.CommandManager;
+import org.spongepowered.api.command.CommandMapping;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.common.SpongeImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The {@code /sponge} command of SpongeCommon with the admin commands of
+ * SpongeForge added as further children. Arguments that do not start with
+ * one of those children are handed to the original command unchanged.
+ */
+public final class SpongeChildCommands implements CommandCallable {
+
+    private static final String SPONGE_ALIAS = "sponge";
+
+    private final CommandCallable parent;
+    private final Map<String, CommandCallable> children;
+
+    private SpongeChildCommands(CommandCallable parent, Map<String, CommandCallable> children) {
+        this.parent = parent;
+        this.children = children;
+    }
+
+    /**
+     * Replaces the registered {@code /sponge} command with one that also
+     * dispatches to the given children. Must be called after SpongeCommon
+     * registered its commands.
+     *
+     * @param plugin The plugin owning the {@code /sponge} command
+     * @param children The children by their lowercase name
+     */
+    public static void register(Object plugin, Map<String, ? extends CommandCallable> children) {
+        final CommandManager manager = SpongeImpl.getGame().getCommandManager();
+        final Optional<? extends CommandMapping> optMapping = manager.get(SPONGE_ALIAS);
+        if (!optMapping.isPresent()) {
+            SpongeImpl.getLogger().error("The /{} command is not registered, its SpongeForge children are not available", SPONGE_ALIAS);
+            return;
+        }
+        final CommandMapping mapping = optMapping.get();
+        final List<String> aliases = new ArrayList<>(mapping.getAllAliases());
+        aliases.remove(mapping.getPrimaryAlias());
+        aliases.add(0, mapping.getPrimaryAlias());
+        manager.removeMapping(mapping);
+        manager.register(plugin, new SpongeChildCommands(mapping.getCallable(), ImmutableMap.copyOf(children)), aliases);
+    }
+
+    @Override
+    public CommandResult process(CommandSource source, String arguments) throws CommandException {
+        final String[] parts = arguments.split(" ", 2);
+        final CommandCallable child = this.children.get(parts[0].toLowerCase(Locale.ENGLISH));
+        if (child != null) {
+            return child.process(source, parts.length > 1 ? parts[1] : "");
+        }
+        return this.parent.process(source, arguments);
+    }
+
+    @Override
+    public List<String> getSuggestions(CommandSource source, String arguments) throws CommandException {
+        final String[] parts = arguments.split(" ", 2);
+        if (parts.length == 1) {
+            final List<String> suggestions = new ArrayList<>(this.parent.getSuggestions(source, arguments));
+            final String prefix = parts[0].toLowerCase(Locale.ENGLISH);
+            for (Map.Entry<String, CommandCallable> entry : this.children.entrySet()) {
+                if (entry.getKey().startsWith(prefix) && entry.getValue().testPermission(source)) {
+                    suggestions.add(entry.getKey());
+                }
+            }
+            return suggestions;
+        }
+        final CommandCallable child = this.children.get(parts[0].toLowerCase(Locale.ENGLISH));
+        if (child != null) {
+            return child.testPermission(source) ? child.getSuggestions(source, parts[1]) : ImmutableList.of();
+        }
+        return this.parent.getSuggestions(source, arguments);
+    }
+
+    @Override
+    public boolean testPermission(CommandSource source) {
+        return this.parent.testPermission(checkNotNull(source, "source"));
+    }
+
+    @Override
+    public Optional<? extends Text> getShortDescription(CommandSource source) {
+        return this.parent.getShortDescription(source);
+    }
+
+    @Override
+    public Optional<? extends Text> getHelp(CommandSource source) {
+        return this.parent.getHelp(source);
+    }
+
+    @Override
+    public Text getUsage(CommandSource source) {
+        return this.parent.getUsage(source);
+    }
+
+}
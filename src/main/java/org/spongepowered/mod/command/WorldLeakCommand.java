@@ -0,0 +1,71 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.command;
+
+import static org.spongepowered.api.command.args.GenericArguments.integer;
+import static org.spongepowered.api.command.args.GenericArguments.optional;
+
+import org.spongepowered.api.command.CommandException;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.CommandContext;
+import org.spongepowered.api.command.spec.CommandSpec;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.mod.world.WorldLeakDetector;
+
+/**
+ * The command showing the unloaded worlds tracked by the
+ * {@link WorldLeakDetector} and configuring when they are reported.
+ */
+public final class WorldLeakCommand {
+
+    private WorldLeakCommand() {
+    }
+
+    public static CommandSpec create() {
+        return CommandSpec.builder()
+                .description(Text.of("Shows the unloaded worlds that were not garbage collected yet"))
+                .permission("sponge.command.worldleaks")
+                .arguments(optional(integer(Text.of("cycles"))))
+                .executor(WorldLeakCommand::execute)
+                .build();
+    }
+
+    private static CommandResult execute(CommandSource src, CommandContext args) throws CommandException {
+        final WorldLeakDetector detector = WorldLeakDetector.getInstance();
+        try {
+            args.<Integer>getOne("cycles").ifPresent(detector::setGcCycles);
+        } catch (IllegalArgumentException e) {
+            throw new CommandException(Text.of(e.getMessage()), e);
+        }
+        src.sendMessage(Text.of("Unloaded worlds are reported after ", detector.getGcCycles(), " garbage collections"));
+        for (WorldLeakDetector.UnloadedWorld world : detector.getUnloadedWorlds()) {
+            src.sendMessage(Text.of(world.getName(), " (DIM", world.getDimensionId(), "): survived ", world.getSurvivedCollections(),
+                    " collections, retains about ", world.getEstimatedBytes() / 1024, " KiB"));
+        }
+        return CommandResult.success();
+    }
+
+}
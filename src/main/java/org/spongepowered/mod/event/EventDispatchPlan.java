@@ -0,0 +1,167 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.event;
+
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.event.RegisteredListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * A precompiled plan describing how a single Sponge event class is
+ * dispatched by the {@link SpongeModEventManager}.
+ *
+ * <p>Plans are built once per event class and hold the resolved Forge
+ * event class, the bus the Forge event is posted on and the plugin
+ * listeners flattened into their firing order. Within each {@link Order},
+ * listeners are grouped by their owning plugin. A plan stays valid for as
+ * long as the {@link RegisteredListener.Cache} it was built from is the one
+ * returned by the event manager.</p>
+ */
+final class EventDispatchPlan {
+
+    private static final RegisteredListener<?>[] NO_LISTENERS = new RegisteredListener<?>[0];
+
+    private final RegisteredListener.Cache listenerCache;
+    @Nullable private final Class<? extends net.minecraftforge.fml.common.eventhandler.Event> forgeEventClass;
+    private final boolean createsForgeEvent;
+    private final int forgeBusId;
+    private final RegisteredListener<?>[] preModificationListeners;
+    private final RegisteredListener<?>[] postModificationListeners;
+    private final RegisteredListener<?>[] listeners;
+
+    EventDispatchPlan(RegisteredListener.Cache listenerCache,
+            @Nullable Class<? extends net.minecraftforge.fml.common.eventhandler.Event> forgeEventClass, boolean createsForgeEvent,
+            int forgeBusId) {
+        this.listenerCache = listenerCache;
+        this.forgeEventClass = forgeEventClass;
+        this.createsForgeEvent = createsForgeEvent;
+        this.forgeBusId = forgeBusId;
+
+        List<RegisteredListener<?>> before = new ArrayList<>();
+        List<RegisteredListener<?>> after = new ArrayList<>();
+        List<RegisteredListener<?>> all = new ArrayList<>();
+        for (Order order : Order.values()) {
+            for (RegisteredListener<?> listener : groupByPlugin(listenerCache.getListenersByOrder(order))) {
+                if (listener.isBeforeModifications()) {
+                    before.add(listener);
+                } else {
+                    after.add(listener);
+                }
+                all.add(listener);
+            }
+        }
+        this.preModificationListeners = before.toArray(NO_LISTENERS);
+        this.postModificationListeners = after.toArray(NO_LISTENERS);
+        this.listeners = all.toArray(NO_LISTENERS);
+    }
+
+    /**
+     * Groups listeners of the same {@link Order} by their owning plugin,
+     * keeping the plugins in the order they first appear, so that the active
+     * mod container only has to be switched at plugin boundaries.
+     */
+    private static List<RegisteredListener<?>> groupByPlugin(List<RegisteredListener<?>> listeners) {
+        if (listeners.size() < 3) {
+            return listeners;
+        }
+        Map<PluginContainer, List<RegisteredListener<?>>> byPlugin = new LinkedHashMap<>();
+        for (RegisteredListener<?> listener : listeners) {
+            byPlugin.computeIfAbsent(listener.getPlugin(), plugin -> new ArrayList<>()).add(listener);
+        }
+        List<RegisteredListener<?>> grouped = new ArrayList<>(listeners.size());
+        for (List<RegisteredListener<?>> pluginListeners : byPlugin.values()) {
+            grouped.addAll(pluginListeners);
+        }
+        return grouped;
+    }
+
+    /**
+     * Gets the listener cache this plan was built from.
+     *
+     * @return The listener cache
+     */
+    RegisteredListener.Cache getListenerCache() {
+        return this.listenerCache;
+    }
+
+    /**
+     * Gets the Forge event class the Sponge event is bridged to, if any.
+     *
+     * @return The Forge event class, or null if the event is not bridged
+     */
+    @Nullable
+    Class<? extends net.minecraftforge.fml.common.eventhandler.Event> getForgeEventClass() {
+        return this.forgeEventClass;
+    }
+
+    /**
+     * Gets whether a Forge event instance is created from the Sponge event
+     * and posted directly, as opposed to being handed to
+     * {@link SpongeForgeEventFactory#callForgeEvent}.
+     *
+     * @return True if a Forge event is created for the Sponge event
+     */
+    boolean createsForgeEvent() {
+        return this.createsForgeEvent;
+    }
+
+    /**
+     * Gets the ID of the Forge bus the Forge event is posted on.
+     *
+     * @return The bus ID, or -1 if the event is not bridged
+     */
+    int getForgeBusId() {
+        return this.forgeBusId;
+    }
+
+    /**
+     * Gets whether any plugin listener is registered for the event class.
+     *
+     * @return True if there is at least one listener
+     */
+    boolean hasListeners() {
+        return this.listeners.length > 0;
+    }
+
+    RegisteredListener<?>[] getPreModificationListeners() {
+        return this.preModificationListeners;
+    }
+
+    RegisteredListener<?>[] getPostModificationListeners() {
+        return this.postModificationListeners;
+    }
+
+    RegisteredListener<?>[] getListeners() {
+        return this.listeners;
+    }
+
+}
@@ -150,23 +150,51 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
 
 public class SpongeForgeEventFactory {
 
+    private static final Function<Event, net.minecraftforge.fml.common.eventhandler.Event> NO_FORGE_EVENT = event -> null;
+
+    // Lookups are cached per class, unsupported classes are cached as NO_FORGE_EVENT / empty
+    private static final ClassValue<Function<Event, net.minecraftforge.fml.common.eventhandler.Event>> forgeEventFactories =
+            new ClassValue<Function<Event, net.minecraftforge.fml.common.eventhandler.Event>>() {
+
+                @Override
+                protected Function<Event, net.minecraftforge.fml.common.eventhandler.Event> computeValue(Class<?> type) {
+                    return resolveForgeEventFactory(type);
+                }
+            };
+    private static final ClassValue<Optional<Class<? extends net.minecraftforge.fml.common.eventhandler.Event>>> forgeEventClasses =
+            new ClassValue<Optional<Class<? extends net.minecraftforge.fml.common.eventhandler.Event>>>() {
+
+                @Override
+                protected Optional<Class<? extends net.minecraftforge.fml.common.eventhandler.Event>> computeValue(Class<?> type) {
+                    return Optional.ofNullable(resolveForgeEventClass(type));
+                }
+            };
+
     public static net.minecraftforge.fml.common.eventhandler.Event findAndCreateForgeEvent(Event event,
             Class<? extends net.minecraftforge.fml.common.eventhandler.Event> clazz) {
+        return forgeEventFactories.get(clazz).apply(event);
+    }
+
+    // Resolves the factory used to create a Forge event of the given class, or NO_FORGE_EVENT if not currently supported
+    private static Function<Event, net.minecraftforge.fml.common.eventhandler.Event> resolveForgeEventFactory(Class<?> clazz) {
 
         // Block events
         if (BlockEvent.class.isAssignableFrom(clazz)) {
             if (clazz == BlockEvent.NeighborNotifyEvent.class) {
 
             } else if (clazz == BlockEvent.HarvestDropsEvent.class) {
-                // return createBlockHarvestEvent(event);
+                // return SpongeForgeEventFactory::createBlockHarvestEvent;
             } else if (clazz == BlockEvent.MultiPlaceEvent.class ||
                     clazz == BlockEvent.PlaceEvent.class) {
-                return createBlockPlaceEvent(event);
+                return SpongeForgeEventFactory::createBlockPlaceEvent;
             } else {
-                return createBlockEvent(event);
+                return SpongeForgeEventFactory::createBlockEvent;
             }
         }
 
@@ -181,7 +209,7 @@ else if (PlayerEvent.class.isAssignableFrom(clazz)) {
             } else if (clazz == ArrowNockEvent.class) {
 
             } else if (clazz == AttackEntityEvent.class) {
-                return createAttackEntityEvent(event);
+                return SpongeForgeEventFactory::createAttackEntityEvent;
             } else if (clazz == BonemealEvent.class) {
 
             } else if (clazz == PlayerInteractEvent.EntityInteract.class) {
@@ -205,17 +233,17 @@ else if (PlayerEvent.class.isAssignableFrom(clazz)) {
             } else if (clazz == PlayerPickupXpEvent.class) {
 
             } else if (clazz == PlayerSleepInBedEvent.class) {
-                return createPlayerSleepInBedEvent(event);
+                return SpongeForgeEventFactory::createPlayerSleepInBedEvent;
             } else if (clazz == LivingEntityUseItemEvent.Start.class) {
-                return createPlayerUseItemStartEvent(event);
+                return SpongeForgeEventFactory::createPlayerUseItemStartEvent;
             } else if (clazz == LivingEntityUseItemEvent.Tick.class) {
-                return createPlayerUseItemTickEvent(event);
+                return SpongeForgeEventFactory::createPlayerUseItemTickEvent;
             } else if (clazz == LivingEntityUseItemEvent.Stop.class) {
-                return createPlayerUseItemStopEvent(event);
+                return SpongeForgeEventFactory::createPlayerUseItemStopEvent;
             } else if (clazz == LivingEntityUseItemEvent.Finish.class) {
-                return createPlayerUseItemFinishEvent(event);
+                return SpongeForgeEventFactory::createPlayerUseItemFinishEvent;
             } else {
-                return (net.minecraftforge.fml.common.eventhandler.Event) event;
+                return event -> (net.minecraftforge.fml.common.eventhandler.Event) event;
             }
         }
 
@@ -224,9 +252,9 @@ else if (LivingEvent.class.isAssignableFrom(clazz)) {
             if (clazz == LivingAttackEvent.class) {
 
             } else if (clazz == LivingDeathEvent.class) {
-                return createLivingDeathEvent(event);
+                return SpongeForgeEventFactory::createLivingDeathEvent;
             } else if (clazz == LivingDropsEvent.class) {
-                return createLivingDropItemEvent(event);
+                return SpongeForgeEventFactory::createLivingDropItemEvent;
             } else if (clazz == LivingExperienceDropEvent.class) {
 
             } else if (clazz == LivingFallEvent.class) {
@@ -242,7 +270,7 @@ else if (LivingEvent.class.isAssignableFrom(clazz)) {
             } else if (clazz == LivingSpawnEvent.class) {
 
             } else {
-                return createLivingEvent(event);
+                return SpongeForgeEventFactory::createLivingEvent;
             }
         }
 
@@ -253,22 +281,22 @@ else if (ItemEvent.class.isAssignableFrom(clazz)) {
 
             } else if (clazz == ItemTossEvent.class) {
                 // This is handled in SpongeImplHooks.onPlayerToss
-                return null;
+                return NO_FORGE_EVENT;
             } else {
-                return createItemEvent(event);
+                return SpongeForgeEventFactory::createItemEvent;
             }
         }
 
         // Entity events
         else if (EntityEvent.class.isAssignableFrom(clazz)) {
             if (clazz == EntityEvent.EntityConstructing.class) {
-                return createEntityConstructingEvent(event);
+                return SpongeForgeEventFactory::createEntityConstructingEvent;
             } else if (clazz == EntityMountEvent.class) {
 
             } else if (clazz == EntityStruckByLightningEvent.class) {
 
             } else {
-                return createEntityEvent(event);
+                return SpongeForgeEventFactory::createEntityEvent;
             }
         }
 
@@ -276,9 +304,9 @@ else if (EntityEvent.class.isAssignableFrom(clazz)) {
         else if (WorldEvent.class.isAssignableFrom(clazz)) {
             if (ChunkEvent.class.isAssignableFrom(clazz)) {
                 if (clazz == ChunkEvent.Load.class) {
-                    return createChunkLoadEvent(event);
+                    return SpongeForgeEventFactory::createChunkLoadEvent;
                 } else if (clazz == ChunkEvent.Unload.class) {
-                    return createChunkUnloadEvent(event);
+                    return SpongeForgeEventFactory::createChunkUnloadEvent;
                 } else if (clazz == ChunkDataEvent.Load.class) {
 
                 } else if (clazz == ChunkDataEvent.Save.class) {
@@ -288,37 +316,43 @@ else if (WorldEvent.class.isAssignableFrom(clazz)) {
                 } else if (clazz == ChunkWatchEvent.Watch.class) {
 
                 }
-                return createChunkEvent(event);
+                return SpongeForgeEventFactory::createChunkEvent;
             } else if (clazz == WorldEvent.Load.class) {
             } else if (clazz == WorldEvent.Unload.class) {
             } else if (clazz == WorldEvent.Save.class) {
             } else {
-                return createWorldEvent(event);
+                return SpongeForgeEventFactory::createWorldEvent;
             }
         }
 
         // Explosion events
         else if (net.minecraftforge.event.world.ExplosionEvent.class.isAssignableFrom(clazz)) {
             if (clazz == net.minecraftforge.event.world.ExplosionEvent.Start.class) {
-                return createExplosionStartEvent(event);
+                return SpongeForgeEventFactory::createExplosionStartEvent;
             } else if (clazz == net.minecraftforge.event.world.ExplosionEvent.Detonate.class) {
-                return createExplosionDetonateEvent(event);
+                return SpongeForgeEventFactory::createExplosionDetonateEvent;
             } else {
-                return createExplosionEvent(event);
+                return SpongeForgeEventFactory::createExplosionEvent;
             }
         }
 
         // Server events
         else if (clazz == ServerChatEvent.class) {
-            return createServerChatEvent(event);
+            return SpongeForgeEventFactory::createServerChatEvent;
         }
 
-        // return null if not currently supported
-        return null;
+        // not currently supported
+        return NO_FORGE_EVENT;
     }
 
-    // Order matters
+    @Nullable
     public static Class<? extends net.minecraftforge.fml.common.eventhandler.Event> getForgeEventClass(Class<? extends Event> clazz) {
+        return forgeEventClasses.get(clazz).orElse(null);
+    }
+
+    // Order matters
+    @Nullable
+    private static Class<? extends net.minecraftforge.fml.common.eventhandler.Event> resolveForgeEventClass(Class<?> clazz) {
         if (ChangeInventoryEvent.Pickup.class.isAssignableFrom(clazz)) {
             return EntityItemPickupEvent.class;
         }
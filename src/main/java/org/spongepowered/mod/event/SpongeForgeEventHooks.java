@@ -31,147 +31,91 @@
 import org.spongepowered.api.event.cause.NamedCause;
 import org.spongepowered.common.event.InternalNamedCauses;
 import org.spongepowered.common.event.tracking.CauseTracker;
+import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.phase.PluginPhase;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.world.WorldManager;
 
-public final class SpongeForgeEventHooks {
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javax.annotation.Nullable;
 
+public final class SpongeForgeEventHooks {
 
-    public static void preEventPhaseCheck(IEventListener listener, Event event) {
+    /**
+     * Enters the listener phase of every world for a single listener of the
+     * given tick event. The returned cause trackers must be passed to
+     * {@link #postEventPhaseCheck(List)} once the listener returns, even if
+     * it threw.
+     *
+     * @param listener The listener about to be invoked, the source of the
+     *     entered phases
+     * @param event The event being posted
+     * @return The cause trackers that entered the phase, or null if none did
+     */
+    @Nullable
+    public static List<CauseTracker> preEventPhaseCheck(IEventListener listener, Event event) {
         if (!CauseTracker.ENABLED) {
-            return;
+            return null;
         }
+        final IPhaseState state;
+        WorldServer tickedWorld = null;
         if (event instanceof TickEvent.WorldTickEvent) {
             final TickEvent.WorldTickEvent worldTickEvent = (TickEvent.WorldTickEvent) event;
             if (!(worldTickEvent.world instanceof IMixinWorldServer)) {
-                return;
+                return null;
             }
-            if (worldTickEvent.phase == TickEvent.Phase.START) {
-                final CauseTracker causeTracker = ((IMixinWorldServer) worldTickEvent.world).getCauseTracker();
-                causeTracker.switchToPhase(PluginPhase.Listener.PRE_WORLD_TICK_LISTENER, PhaseContext.start()
-                        .add(NamedCause.source(listener))
-                        .add(NamedCause.of(InternalNamedCauses.Tracker.TICK_EVENT, event))
-                        .addCaptures()
-                        .player()
-                        .complete()
-                    );
-                // Need to prepare all worlds
-                for (WorldServer worldServer : WorldManager.getWorlds()) {
-                    if (worldServer == worldTickEvent.world) {
-                        continue;
-                    }
-                    final CauseTracker otherCauseTracker = ((IMixinWorldServer) worldServer).getCauseTracker();
-                    otherCauseTracker.switchToPhase(PluginPhase.Listener.PRE_WORLD_TICK_LISTENER, PhaseContext.start()
-                            .add(NamedCause.source(listener))
-                            .add(NamedCause.of(InternalNamedCauses.Tracker.TICK_EVENT, event))
-                            .addCaptures()
-                            .player()
-                            .complete()
-                    );
+            tickedWorld = (WorldServer) worldTickEvent.world;
+            state = worldTickEvent.phase == TickEvent.Phase.START
+                    ? PluginPhase.Listener.PRE_WORLD_TICK_LISTENER
+                    : PluginPhase.Listener.POST_WORLD_TICK_LISTENER;
+        } else if (event instanceof TickEvent.ServerTickEvent) {
+            // Basically some forge mods also listen to the server tick event and perform world changes as well...........
+            state = ((TickEvent.ServerTickEvent) event).phase == TickEvent.Phase.START
+                    ? PluginPhase.Listener.PRE_SERVER_TICK_LISTENER
+                    : PluginPhase.Listener.POST_SERVER_TICK_LISTENER;
+        } else {
+            return null;
+        }
 
-                }
-            } else if (worldTickEvent.phase == TickEvent.Phase.END) {
-                final CauseTracker causeTracker = ((IMixinWorldServer) worldTickEvent.world).getCauseTracker();
-                causeTracker.switchToPhase(PluginPhase.Listener.POST_WORLD_TICK_LISTENER, PhaseContext.start()
-                        .add(NamedCause.source(listener))
-                        .add(NamedCause.of(InternalNamedCauses.Tracker.TICK_EVENT, event))
-                        .addCaptures()
-                        .player()
-                        .complete()
-                );
-                // Need to prepare all worlds
-                for (WorldServer worldServer : WorldManager.getWorlds()) {
-                    if (worldServer == worldTickEvent.world) {
-                        continue;
-                    }
-                    final CauseTracker otherCauseTracker = ((IMixinWorldServer) worldServer).getCauseTracker();
-                    otherCauseTracker.switchToPhase(PluginPhase.Listener.POST_WORLD_TICK_LISTENER, PhaseContext.start()
-                            .add(NamedCause.source(listener))
-                            .add(NamedCause.of(InternalNamedCauses.Tracker.TICK_EVENT, event))
-                            .addCaptures()
-                            .player()
-                            .complete()
-                    );
-                }
-            }
+        // Need to prepare all worlds, many mods change other worlds from their tick listeners
+        final Collection<WorldServer> worlds = WorldManager.getWorlds();
+        final List<CauseTracker> causeTrackers = new ArrayList<>(worlds.size());
+        if (tickedWorld != null) {
+            switchToListenerPhase(((IMixinWorldServer) tickedWorld).getCauseTracker(), state, listener, event, causeTrackers);
         }
-        // Basically some forge mods also listen to the server tick event and perform world changes as well...........
-        if (event instanceof TickEvent.ServerTickEvent) {
-            final TickEvent.ServerTickEvent serverTickEvent = (TickEvent.ServerTickEvent) event;
-            if (serverTickEvent.phase == TickEvent.Phase.START) {
-                // Need to prepare all worlds many mods do this
-                for (WorldServer worldServer : WorldManager.getWorlds()) {
-                    final CauseTracker otherCauseTracker = ((IMixinWorldServer) worldServer).getCauseTracker();
-                    otherCauseTracker.switchToPhase(PluginPhase.Listener.PRE_SERVER_TICK_LISTENER, PhaseContext.start()
-                            .add(NamedCause.source(listener))
-                            .add(NamedCause.of(InternalNamedCauses.Tracker.TICK_EVENT, event))
-                            .addCaptures()
-                            .player()
-                            .complete()
-                    );
-                }
-            } else if (serverTickEvent.phase == TickEvent.Phase.END) {
-                // Need to prepare all worlds many mods use this
-                for (WorldServer worldServer : WorldManager.getWorlds()) {
-                    final CauseTracker otherCauseTracker = ((IMixinWorldServer) worldServer).getCauseTracker();
-                    otherCauseTracker.switchToPhase(PluginPhase.Listener.POST_SERVER_TICK_LISTENER, PhaseContext.start()
-                            .add(NamedCause.source(listener))
-                            .add(NamedCause.of(InternalNamedCauses.Tracker.TICK_EVENT, event))
-                            .addCaptures()
-                            .player()
-                            .complete()
-                    );
-                }
+        for (WorldServer worldServer : worlds) {
+            if (worldServer != tickedWorld) {
+                switchToListenerPhase(((IMixinWorldServer) worldServer).getCauseTracker(), state, listener, event, causeTrackers);
             }
         }
+        return causeTrackers;
     }
 
-    public static void postEventPhaseCheck(IEventListener listener, Event event) {
-        if (!CauseTracker.ENABLED) {
-            return;
-        }
-        if (event instanceof TickEvent.WorldTickEvent) {
-            final TickEvent.WorldTickEvent worldTickEvent = (TickEvent.WorldTickEvent) event;
-            if (!(worldTickEvent.world instanceof IMixinWorldServer)) {
-                return;
-            }
-            if (worldTickEvent.phase == TickEvent.Phase.START) {
-                final CauseTracker causeTracker = ((IMixinWorldServer) worldTickEvent.world).getCauseTracker();
-                causeTracker.completePhase();
-                // Need to complete all worlds
-                for (WorldServer worldServer : WorldManager.getWorlds()) {
-                    if (worldServer == worldTickEvent.world) {
-                        continue;
-                    }
-                    ((IMixinWorldServer) worldServer).getCauseTracker().completePhase();
-                }
-            } else if (worldTickEvent.phase == TickEvent.Phase.END) {
-                final CauseTracker causeTracker = ((IMixinWorldServer) worldTickEvent.world).getCauseTracker();
-                causeTracker.completePhase();
-                // Need to complete all worlds
-                for (WorldServer worldServer : WorldManager.getWorlds()) {
-                    if (worldServer == worldTickEvent.world) {
-                        continue;
-                    }
-                    ((IMixinWorldServer) worldServer).getCauseTracker().completePhase();
-                }
-            }
-        }
-        // Basically some forge mods also listen to the server tick event and perform world changes as well...........
-        if (event instanceof TickEvent.ServerTickEvent) {
-            final TickEvent.ServerTickEvent serverTickEvent = (TickEvent.ServerTickEvent) event;
-            if (serverTickEvent.phase == TickEvent.Phase.START) {
+    private static void switchToListenerPhase(CauseTracker causeTracker, IPhaseState state, IEventListener listener, Event event,
+            List<CauseTracker> causeTrackers) {
+        causeTracker.switchToPhase(state, PhaseContext.start()
+                .add(NamedCause.source(listener))
+                .add(NamedCause.of(InternalNamedCauses.Tracker.TICK_EVENT, event))
+                .addCaptures()
+                .player()
+                .complete());
+        causeTrackers.add(causeTracker);
+    }
 
-                for (WorldServer worldServer : WorldManager.getWorlds()) {
-                    ((IMixinWorldServer) worldServer).getCauseTracker().completePhase();
-                }
-            } else if (serverTickEvent.phase == TickEvent.Phase.END) {
-                for (WorldServer worldServer : WorldManager.getWorlds()) {
-                    ((IMixinWorldServer) worldServer).getCauseTracker().completePhase();
-                }
-            }
+    /**
+     * Completes the listener phases entered by
+     * {@link #preEventPhaseCheck(IEventListener, Event)}, including those of
+     * worlds that were unloaded by the listener.
+     *
+     * @param causeTrackers The cause trackers that entered the phase
+     */
+    public static void postEventPhaseCheck(List<CauseTracker> causeTrackers) {
+        for (int i = 0; i < causeTrackers.size(); i++) {
+            causeTrackers.get(i).completePhase();
         }
     }
 }
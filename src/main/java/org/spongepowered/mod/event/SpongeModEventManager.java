@@ -26,10 +26,12 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import co.aikar.timings.Timings;
 import co.aikar.timings.TimingsManager;
 import com.google.common.collect.ImmutableBiMap;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.Maps;
 import net.minecraftforge.event.CommandEvent;
 import net.minecraftforge.event.ServerChatEvent;
 import net.minecraftforge.event.entity.EntityEvent;
@@ -107,6 +109,7 @@
 import org.spongepowered.api.event.world.chunk.LoadChunkEvent;
 import org.spongepowered.api.event.world.chunk.TargetChunkEvent;
 import org.spongepowered.api.event.world.chunk.UnloadChunkEvent;
+import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.plugin.PluginManager;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.event.RegisteredListener;
@@ -117,8 +120,9 @@
 import org.spongepowered.mod.interfaces.IMixinEvent;
 import org.spongepowered.mod.interfaces.IMixinEventBus;
 import org.spongepowered.mod.interfaces.IMixinLoadController;
+import org.spongepowered.mod.world.NeighborNotifyCoalescer;
 
-import java.util.List;
+import java.util.Map;
 
 import javax.inject.Inject;
 
@@ -245,6 +249,8 @@ public class SpongeModEventManager extends SpongeEventManager {
 
 
 
+    private final Map<Class<? extends Event>, EventDispatchPlan> dispatchPlans = Maps.newConcurrentMap();
+
     @Inject
     public SpongeModEventManager(PluginManager pluginManager) {
         super(pluginManager);
@@ -254,37 +260,47 @@ public SpongeModEventManager(PluginManager pluginManager) {
     public boolean post(Event spongeEvent, net.minecraftforge.fml.common.eventhandler.Event forgeEvent, IEventListener[] listeners) {
         checkNotNull(forgeEvent, "forgeEvent");
 
+        if (forgeEvent instanceof BlockEvent.NeighborNotifyEvent) {
+            return postNeighborNotify(spongeEvent, (BlockEvent.NeighborNotifyEvent) forgeEvent, listeners);
+        }
+        if (spongeEvent == null) { // Fired by Forge
+            spongeEvent = ((IMixinEvent) forgeEvent).createSpongeEvent();
+        }
+        return post(spongeEvent, forgeEvent, listeners, getDispatchPlan(spongeEvent));
+    }
+
+    private boolean postNeighborNotify(Event spongeEvent, BlockEvent.NeighborNotifyEvent forgeEvent, IEventListener[] listeners) {
+        final net.minecraft.world.World world = forgeEvent.getWorld();
         if (spongeEvent == null) { // Fired by Forge
             spongeEvent = ((IMixinEvent) forgeEvent).createSpongeEvent();
         }
-        RegisteredListener.Cache listenerCache = getHandlerCache(spongeEvent);
+        final Object causeRoot = spongeEvent.getCause().root();
+        if (NeighborNotifyCoalescer.isDelivered(world, forgeEvent.getPos(), forgeEvent.getNotifiedSides(), causeRoot)) {
+            // Only plugins already saw this notification from the same cause, mods still receive every one
+            if (listeners.length > 0) {
+                postToMods(forgeEvent, listeners);
+            }
+            return forgeEvent.isCancelable() && forgeEvent.isCanceled();
+        }
+        final boolean cancelled = post(spongeEvent, forgeEvent, listeners, getDispatchPlan(spongeEvent));
+        if (!cancelled) {
+            NeighborNotifyCoalescer.markDelivered(world, forgeEvent.getPos(), forgeEvent.getNotifiedSides(), causeRoot);
+        }
+        return cancelled;
+    }
+
+    private boolean post(Event spongeEvent, net.minecraftforge.fml.common.eventhandler.Event forgeEvent, IEventListener[] listeners,
+            EventDispatchPlan plan) {
         // Fire events to plugins before modifications
         TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
-        for (Order order : Order.values()) {
-            post(spongeEvent, listenerCache.getListenersByOrder(order), true, false);
-        }
+        post(spongeEvent, plan.getPreModificationListeners());
         TimingsManager.PLUGIN_EVENT_HANDLER.stopTimingIfSync();
 
         // If there are no forge listeners for event, skip sync
         if (listeners.length > 0) {
             // sync plugin data for Mods
             ((IMixinEvent) forgeEvent).syncDataToForge(spongeEvent);
-            TimingsManager.MOD_EVENT_HANDLER.startTimingIfSync();
-            for (IEventListener listener : listeners) {
-                try {
-                    if (listener instanceof IMixinASMEventHandler) {
-                        IMixinASMEventHandler modListener = (IMixinASMEventHandler) listener;
-                        modListener.getTimingsHandler().startTimingIfSync();
-                        listener.invoke(forgeEvent);
-                        modListener.getTimingsHandler().stopTimingIfSync();
-                    } else {
-                        listener.invoke(forgeEvent);
-                    }
-                } catch (Throwable throwable) {
-                    SpongeImpl.getLogger().catching(throwable);
-                }
-            }
-            TimingsManager.MOD_EVENT_HANDLER.stopTimingIfSync();
+            postToMods(forgeEvent, listeners);
 
             // sync Forge data for Plugins
             ((IMixinEvent) forgeEvent).syncDataToSponge(spongeEvent);
@@ -292,9 +308,7 @@ public boolean post(Event spongeEvent, net.minecraftforge.fml.common.eventhandle
 
         TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
         // Fire events to plugins after modifications (default)
-        for (Order order : Order.values()) {
-            post(spongeEvent, listenerCache.getListenersByOrder(order), false, false);
-        }
+        post(spongeEvent, plan.getPostModificationListeners());
         TimingsManager.PLUGIN_EVENT_HANDLER.stopTimingIfSync();
 
         // sync plugin data for Forge
@@ -310,14 +324,43 @@ public boolean post(Event spongeEvent, net.minecraftforge.fml.common.eventhandle
         return forgeEvent.isCancelable() && forgeEvent.isCanceled();
     }
 
+    /**
+     * Invokes the given Forge listeners, logging and swallowing anything a
+     * listener throws so that the remaining listeners still run. This is
+     * shared by every Forge event that has a Sponge event, whether or not a
+     * plugin listens to it.
+     *
+     * @param forgeEvent The forge event
+     * @param listeners The forge listeners
+     */
+    public void postToMods(net.minecraftforge.fml.common.eventhandler.Event forgeEvent, IEventListener[] listeners) {
+        TimingsManager.MOD_EVENT_HANDLER.startTimingIfSync();
+        for (IEventListener listener : listeners) {
+            try {
+                if (listener instanceof IMixinASMEventHandler) {
+                    IMixinASMEventHandler modListener = (IMixinASMEventHandler) listener;
+                    modListener.getTimingsHandler().startTimingIfSync();
+                    listener.invoke(forgeEvent);
+                    modListener.getTimingsHandler().stopTimingIfSync();
+                } else {
+                    listener.invoke(forgeEvent);
+                }
+            } catch (Throwable throwable) {
+                SpongeImpl.getLogger().catching(throwable);
+            }
+        }
+        TimingsManager.MOD_EVENT_HANDLER.stopTimingIfSync();
+    }
+
     // Uses SpongeForgeEventFactory (required for any events shared in SpongeCommon)
     public boolean post(Event spongeEvent, Class<? extends net.minecraftforge.fml.common.eventhandler.Event> clazz) {
-        RegisteredListener.Cache listenerCache = getHandlerCache(spongeEvent);
+        return post(spongeEvent, clazz, getDispatchPlan(spongeEvent));
+    }
+
+    private boolean post(Event spongeEvent, Class<? extends net.minecraftforge.fml.common.eventhandler.Event> clazz, EventDispatchPlan plan) {
         TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
         // Fire events to plugins before modifications
-        for (Order order : Order.values()) {
-            post(spongeEvent, listenerCache.getListenersByOrder(order), true, false);
-        }
+        post(spongeEvent, plan.getPreModificationListeners());
         TimingsManager.PLUGIN_EVENT_HANDLER.stopTimingIfSync();
 
         TimingsManager.MOD_EVENT_HANDLER.startTimingIfSync();
@@ -328,35 +371,90 @@ public boolean post(Event spongeEvent, Class<? extends net.minecraftforge.fml.co
 
         TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
         // Fire events to plugins after modifications (default)
-        for (Order order : Order.values()) {
-            post(spongeEvent, listenerCache.getListenersByOrder(order), false, false);
-        }
+        post(spongeEvent, plan.getPostModificationListeners());
         TimingsManager.PLUGIN_EVENT_HANDLER.stopTimingIfSync();
 
         return spongeEvent instanceof Cancellable && ((Cancellable) spongeEvent).isCancelled();
     }
 
     @SuppressWarnings("unchecked")
-    protected static boolean post(Event event, List<RegisteredListener<?>> listeners, boolean beforeModifications, boolean forced) {
-        ModContainer oldContainer = ((IMixinLoadController) SpongeMod.instance.getController()).getActiveModContainer();
-        for (@SuppressWarnings("rawtypes")
-        RegisteredListener listener : listeners) {
-            ((IMixinLoadController) SpongeMod.instance.getController()).setActiveModContainer((ModContainer) listener.getPlugin());
+    protected static boolean post(Event event, RegisteredListener<?>[] listeners) {
+        if (listeners.length == 0) {
+            return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+        }
+        final IMixinLoadController controller = (IMixinLoadController) SpongeMod.instance.getController();
+        final ModContainer oldContainer = controller.getActiveModContainer();
+        final boolean timings = Timings.isTimingsEnabled();
+        PluginContainer activePlugin = null;
+        for (int i = 0; i < listeners.length; i++) {
+            @SuppressWarnings("rawtypes")
+            final RegisteredListener listener = listeners[i];
+            // Listeners are grouped by plugin, only switch containers at plugin boundaries
+            if (listener.getPlugin() != activePlugin) {
+                activePlugin = listener.getPlugin();
+                controller.setActiveModContainer((ModContainer) activePlugin);
+            }
             try {
-                if (forced || (!listener.isBeforeModifications() && !beforeModifications)
-                        || (listener.isBeforeModifications() && beforeModifications)) {
+                if (timings) {
                     listener.getTimingsHandler().startTimingIfSync();
                     listener.handle(event);
                     listener.getTimingsHandler().stopTimingIfSync();
+                } else {
+                    listener.handle(event);
                 }
             } catch (Throwable e) {
                 SpongeImpl.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), listener.getPlugin(), e);
             }
         }
-        ((IMixinLoadController) SpongeMod.instance.getController()).setActiveModContainer(oldContainer);
+        controller.setActiveModContainer(oldContainer);
         return event instanceof Cancellable && ((Cancellable) event).isCancelled();
     }
 
+    /**
+     * Gets whether any plugin listens to the given event. Forge events are
+     * their own Sponge event, so this can be checked before the Sponge event
+     * is created or synced.
+     *
+     * @param event The event
+     * @return True if at least one plugin listener is registered for the event
+     */
+    public boolean hasPluginListeners(Event event) {
+        return getDispatchPlan(event).hasListeners();
+    }
+
+    /**
+     * Gets the dispatch plan for the class of the given event, building it if
+     * it does not exist yet or if the listeners for the event have changed
+     * since it was built.
+     *
+     * @param event The event
+     * @return The dispatch plan
+     */
+    private EventDispatchPlan getDispatchPlan(Event event) {
+        RegisteredListener.Cache listenerCache = getHandlerCache(event);
+        EventDispatchPlan plan = this.dispatchPlans.get(event.getClass());
+        if (plan == null || plan.getListenerCache() != listenerCache) {
+            plan = createDispatchPlan(event.getClass(), listenerCache);
+            this.dispatchPlans.put(event.getClass(), plan);
+        }
+        return plan;
+    }
+
+    private EventDispatchPlan createDispatchPlan(Class<? extends Event> eventClass, RegisteredListener.Cache listenerCache) {
+        Class<? extends net.minecraftforge.fml.common.eventhandler.Event> forgeEventClass = null;
+        boolean createsForgeEvent = false;
+        if (eventClass.getInterfaces().length > 0) {
+            forgeEventClass = this.eventMappings.get(eventClass.getInterfaces()[0]);
+            if (forgeEventClass == null) {
+                forgeEventClass = SpongeForgeEventFactory.getForgeEventClass(eventClass);
+            } else {
+                createsForgeEvent = true;
+            }
+        }
+        int busId = forgeEventClass == null ? -1 : ((IMixinEventBus) SpongeForgeEventFactory.getForgeEventBus(forgeEventClass)).getBusID();
+        return new EventDispatchPlan(listenerCache, forgeEventClass, createsForgeEvent, busId);
+    }
+
     @Override
     public boolean post(Event event) {
         return this.post(event, false);
@@ -368,26 +466,21 @@ public boolean post(Event spongeEvent, boolean allowClientThread) {
             return false;
         }
 
-        if (spongeEvent.getClass().getInterfaces().length > 0) {
-            Class<? extends net.minecraftforge.fml.common.eventhandler.Event> clazz =
-                    this.eventMappings.get(spongeEvent.getClass().getInterfaces()[0]);
-            if (clazz == null) {
-                clazz = SpongeForgeEventFactory.getForgeEventClass(spongeEvent.getClass());
-                if (clazz != null) {
-                    return post(spongeEvent, clazz);
-                }
-            } else {
-                SpongeCommonEventFactory.processingInternalForgeEvent = true;
-                net.minecraftforge.fml.common.eventhandler.Event forgeEvent = SpongeForgeEventFactory.findAndCreateForgeEvent(spongeEvent, clazz);
-                SpongeCommonEventFactory.processingInternalForgeEvent = false;
-                if (forgeEvent != null) {
-                    return post(spongeEvent, forgeEvent,
-                            forgeEvent.getListenerList().getListeners(((IMixinEventBus) SpongeForgeEventFactory.getForgeEventBus(forgeEvent.getClass())).getBusID()));
-                }
+        final EventDispatchPlan plan = getDispatchPlan(spongeEvent);
+        final Class<? extends net.minecraftforge.fml.common.eventhandler.Event> clazz = plan.getForgeEventClass();
+        if (clazz != null) {
+            if (!plan.createsForgeEvent()) {
+                return post(spongeEvent, clazz, plan);
+            }
+            SpongeCommonEventFactory.processingInternalForgeEvent = true;
+            net.minecraftforge.fml.common.eventhandler.Event forgeEvent = SpongeForgeEventFactory.findAndCreateForgeEvent(spongeEvent, clazz);
+            SpongeCommonEventFactory.processingInternalForgeEvent = false;
+            if (forgeEvent != null) {
+                return post(spongeEvent, forgeEvent, forgeEvent.getListenerList().getListeners(plan.getForgeBusId()), plan);
             }
         }
         // no checking for modifications required
-        return post(spongeEvent, getHandlerCache(spongeEvent).getListeners(), false, true);
+        return post(spongeEvent, plan.getListeners());
     }
 
 }
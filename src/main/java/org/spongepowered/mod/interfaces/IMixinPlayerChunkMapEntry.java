@@ -24,6 +24,7 @@
  */
 package org.spongepowered.mod.interfaces;
 
+import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
 
 public interface IMixinPlayerChunkMapEntry {
@@ -31,4 +32,10 @@ public interface IMixinPlayerChunkMapEntry {
     void setChunk(Chunk chunk);
 
     void setLoading(boolean loading);
+
+    boolean isLoading();
+
+    boolean hasPlayers();
+
+    WorldServer getWorldServer();
 }
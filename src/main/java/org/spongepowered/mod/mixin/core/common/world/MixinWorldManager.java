@@ -43,9 +43,14 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Overwrite;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayerMP;
 import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.mod.world.DimensionSnapshots;
 
 import java.nio.file.Path;
 import java.util.Optional;
@@ -140,4 +145,31 @@ public static boolean registerDimensionType(DimensionType type) {
     public static int getDimensionId(WorldProvider provider) {
         return provider.getDimension();
     }
+
+    // Forge's DimensionManager snapshots the worlds and dimension ids until any of these change them
+
+    @Inject(method = "registerDimension", at = @At("RETURN"))
+    private static void onRegisterDimension(CallbackInfo ci) {
+        DimensionSnapshots.invalidate();
+    }
+
+    @Inject(method = "unregisterDimension", at = @At("RETURN"))
+    private static void onUnregisterDimension(CallbackInfo ci) {
+        DimensionSnapshots.invalidate();
+    }
+
+    @Inject(method = "forceAddWorld", at = @At("RETURN"))
+    private static void onForceAddWorld(CallbackInfo ci) {
+        DimensionSnapshots.invalidate();
+    }
+
+    @Inject(method = "unloadWorld", at = @At("RETURN"))
+    private static void onUnloadWorld(CallbackInfoReturnable<Boolean> cir) {
+        DimensionSnapshots.invalidate();
+    }
+
+    @Inject(method = "reorderWorldsVanillaFirst", at = @At("RETURN"))
+    private static void onReorderWorlds(CallbackInfo ci) {
+        DimensionSnapshots.invalidate();
+    }
 }
@@ -25,7 +25,6 @@
 package org.spongepowered.mod.mixin.core.event.block;
 
 import com.google.common.collect.ImmutableMap;
-import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.EnumFacing;
 import net.minecraftforge.event.world.BlockEvent;
@@ -34,82 +33,80 @@
 import org.spongepowered.api.event.block.NotifyNeighborBlockEvent;
 import org.spongepowered.api.util.Direction;
 import org.spongepowered.api.util.annotation.NonnullByDefault;
-import org.spongepowered.api.world.Location;
-import org.spongepowered.api.world.World;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Mutable;
 import org.spongepowered.asm.mixin.Shadow;
-import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.registry.provider.DirectionFacingProvider;
-import org.spongepowered.common.util.VecHelper;
 
+import java.util.EnumMap;
 import java.util.EnumSet;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.function.Predicate;
 
+import javax.annotation.Nullable;
+
 @NonnullByDefault
 @Mixin(value = BlockEvent.NeighborNotifyEvent.class, remap = false)
 public abstract class MixinEventNotifyNeighborBlock extends MixinEventBlock implements NotifyNeighborBlockEvent {
 
-    private ImmutableMap<Direction, BlockState> originalNeighbors;
-    private Map<Direction, BlockState> neighbors;
+    // Both resolved on first access, most notifications are never inspected
+    @Nullable private ImmutableMap<Direction, BlockState> originalNeighbors;
+    @Nullable private Map<Direction, BlockState> neighbors;
 
     @Shadow @Final @Mutable private EnumSet<EnumFacing> notifiedSides;
 
-    @Inject(method = "<init>", at = @At("RETURN"))
-    public void onConstructed(net.minecraft.world.World world, BlockPos pos, IBlockState state, EnumSet<EnumFacing> notifiedSides, CallbackInfo ci) {
-        if (!world.isRemote && !SpongeCommonEventFactory.processingInternalForgeEvent) {
-            createSpongeEventData();
-        }
-    }
-
     @Override
     public ImmutableMap<Direction, BlockState> getOriginalNeighbors() {
+        if (this.originalNeighbors == null) {
+            createSpongeEventData();
+        }
         return this.originalNeighbors;
     }
 
     @Override
     public Map<Direction, BlockState> getNeighbors() {
+        if (this.neighbors == null) {
+            this.neighbors = new EnumMap<>(Direction.class);
+            this.neighbors.putAll(getOriginalNeighbors());
+        }
         return this.neighbors;
     }
 
     @Override
     public void filterDirections(Predicate<Direction> predicate) {
-        Iterator<Direction> iterator = this.neighbors.keySet().iterator();
-        if (!predicate.test(iterator.next())) {
-            iterator.remove();
-        }
+        getNeighbors().keySet().removeIf(direction -> !predicate.test(direction));
     }
 
     public void createSpongeEventData() {
-        this.neighbors = new HashMap<>();
-        if (this.notifiedSides != null) {
-            for (EnumFacing notifiedSide : this.notifiedSides) {
-                BlockPos offset = this.getPos().offset(notifiedSide);
+        if (this.notifiedSides == null || this.notifiedSides.isEmpty()) {
+            this.originalNeighbors = ImmutableMap.of();
+            return;
+        }
+        final ImmutableMap.Builder<Direction, BlockState> builder = ImmutableMap.builder();
+        for (EnumFacing notifiedSide : this.notifiedSides) {
+            BlockPos offset = this.getPos().offset(notifiedSide);
+            if (offset.getY() >= 0 && offset.getY() <= 255) {
                 Direction direction = DirectionFacingProvider.getInstance().getKey(notifiedSide).get();
-                Location<World> location = new Location<>((World) this.getWorld(), VecHelper.toVector3d(offset));
-                if (location.getBlockY() >=0 && location.getBlockY() <= 255) {
-                    this.neighbors.put(direction, location.getBlock());
-                }
+                builder.put(direction, (BlockState) this.getWorld().getBlockState(offset));
             }
         }
-        this.originalNeighbors = ImmutableMap.copyOf(this.neighbors);
+        this.originalNeighbors = builder.build();
     }
 
     @Override
     public void syncDataToForge(Event spongeEvent) {
         super.syncDataToForge(spongeEvent);
 
+        if (spongeEvent == this && (this.neighbors == null || this.neighbors.keySet().equals(getOriginalNeighbors().keySet()))) {
+            return; // The notified sides didn't change
+        }
         NotifyNeighborBlockEvent event = (NotifyNeighborBlockEvent) spongeEvent;
         EnumSet<EnumFacing> facings = EnumSet.noneOf(EnumFacing.class);
-        for (Map.Entry<Direction, BlockState> mapEntry : event.getNeighbors().entrySet()) {
-            facings.add(DirectionFacingProvider.getInstance().get(mapEntry.getKey()).get());
+        for (Direction direction : event.getNeighbors().keySet()) {
+            if (direction != Direction.NONE) {
+                facings.add(DirectionFacingProvider.getInstance().get(direction).get());
+            }
         }
 
         this.notifiedSides = facings;
@@ -25,12 +25,13 @@
 package org.spongepowered.mod.mixin.core.event.world;
 
 import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.util.math.BlockPos;
 import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.data.Transaction;
 import org.spongepowered.api.entity.Entity;
-import org.spongepowered.api.entity.EntitySnapshot;
 import org.spongepowered.api.entity.projectile.Projectile;
 import org.spongepowered.api.entity.projectile.source.ProjectileSource;
 import org.spongepowered.api.event.cause.Cause;
@@ -45,15 +46,20 @@
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.block.SpongeBlockSnapshotBuilder;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.mod.event.SpongeModEventManager;
 import org.spongepowered.mod.interfaces.IMixinBlockSnapshot;
 import org.spongepowered.mod.mixin.core.fml.common.eventhandler.MixinEvent;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.UUID;
 import java.util.function.Predicate;
 
+import javax.annotation.Nullable;
+
 @Mixin(value = net.minecraftforge.event.world.ExplosionEvent.class, remap = false)
 public abstract class MixinEventWorldExplosion extends MixinEvent implements ExplosionEvent {
 
@@ -111,8 +117,8 @@ static abstract class Pre extends MixinEventWorldExplosion implements ExplosionE
     @Mixin(value = net.minecraftforge.event.world.ExplosionEvent.Detonate.class, remap = false)
     static abstract class Detonate extends MixinEventWorldExplosion implements ExplosionEvent.Detonate {
 
-        private ImmutableList<EntitySnapshot> entitySnapshots;
-        private ImmutableList<Transaction<BlockSnapshot>> blockTransactions;
+        // Only built up front when a plugin listens, explosions of thousands of blocks are rarely inspected
+        @Nullable private ImmutableList<Transaction<BlockSnapshot>> blockTransactions;
 
         @Shadow @Final private List<net.minecraft.entity.Entity> entityList;
 
@@ -122,36 +128,37 @@ public void onConstructed(net.minecraft.world.World world, net.minecraft.world.E
             if (this.getWorld().isRemote) {
                 return;
             }
-
-            createSpongeData();
+            // Snapshot the original blocks before any mod listener removes positions or the explosion runs
+            if (((SpongeModEventManager) SpongeImpl.getGame().getEventManager()).hasPluginListeners(this)) {
+                createSpongeData();
+            }
         }
 
         public void createSpongeData() {
             List<BlockPos> affectedPositions = this.shadow$getExplosion().getAffectedBlockPositions();
-            ImmutableList.Builder<Transaction<BlockSnapshot>> builder = new ImmutableList.Builder<>();
+            UUID worldId = ((World) this.getWorld()).getUniqueId();
+            ImmutableList.Builder<Transaction<BlockSnapshot>> builder = ImmutableList.builder();
             for (BlockPos pos : affectedPositions) {
-                Location<World> location = new Location<>((World) this.getWorld(), VecHelper.toVector3d(pos));
                 BlockSnapshot originalSnapshot =
                         ((IMixinBlockSnapshot) net.minecraftforge.common.util.BlockSnapshot.getBlockSnapshot(this.getWorld(), pos))
                                 .createSpongeBlockSnapshot();
-                final SpongeBlockSnapshotBuilder replacementBuilder = new SpongeBlockSnapshotBuilder()
+                BlockSnapshot replacementSnapshot = new SpongeBlockSnapshotBuilder()
                         .blockState(BlockTypes.AIR.getDefaultState())
-                        .position(location.getBlockPosition())
-                    .worldId(location.getExtent().getUniqueId());
-                BlockSnapshot replacementSnapshot = replacementBuilder.build();
-                builder.add(new Transaction<>(originalSnapshot, replacementSnapshot)).build();
+                        .position(VecHelper.toVector3i(pos))
+                        .worldId(worldId)
+                        .build();
+                builder.add(new Transaction<>(originalSnapshot, replacementSnapshot));
             }
             this.blockTransactions = builder.build();
-
-            ImmutableList.Builder<EntitySnapshot> entityListBuilder = ImmutableList.builder();
-            for (net.minecraft.entity.Entity entity : this.entityList) {
-                entityListBuilder.add(((Entity) entity).createSnapshot());
-            }
-            this.entitySnapshots = entityListBuilder.build();
         }
 
         @Override
         public ImmutableList<Transaction<BlockSnapshot>> getTransactions() {
+            if (this.blockTransactions == null) {
+                // No plugin listened when the event was created, so it is read outside of the event
+                // listeners and the affected positions are all there is to go by
+                createSpongeData();
+            }
             return this.blockTransactions;
         }
 
@@ -165,7 +172,7 @@ public List<Transaction<BlockSnapshot>> filter(Predicate<Location<World>> predic
                     transaction.setValid(false);
                 }
             }
-            return this.blockTransactions;
+            return getTransactions();
         }
 
         @SuppressWarnings("unchecked")
@@ -178,31 +185,36 @@ public List<Entity> getEntities() {
         public void syncDataToForge(org.spongepowered.api.event.Event spongeEvent) {
             super.syncDataToForge(spongeEvent);
 
+            if (spongeEvent == this && this.blockTransactions == null) {
+                return; // No plugin listens, so no transaction was invalidated
+            }
             ExplosionEvent.Detonate event = (ExplosionEvent.Detonate) spongeEvent;
-            List<BlockPos> affectedBlocks = this.shadow$getExplosion().getAffectedBlockPositions();
-            affectedBlocks.clear();
-
+            final LongSet invalidPositions = new LongOpenHashSet();
             for (Transaction<BlockSnapshot> blockTransaction : event.getTransactions()) {
-                if (blockTransaction.isValid()) {
-                    affectedBlocks.add(VecHelper.toBlockPos(blockTransaction.getFinal().getPosition()));
+                if (!blockTransaction.isValid()) {
+                    invalidPositions.add(VecHelper.toBlockPos(blockTransaction.getFinal().getPosition()).toLong());
                 }
             }
+            if (!invalidPositions.isEmpty()) {
+                this.shadow$getExplosion().getAffectedBlockPositions().removeIf(pos -> invalidPositions.contains(pos.toLong()));
+            }
         }
 
         @Override
         public void syncDataToSponge(org.spongepowered.api.event.Event spongeEvent) {
             super.syncDataToSponge(spongeEvent);
 
+            if (spongeEvent == this && this.blockTransactions == null) {
+                return; // No plugin listens, transactions built later are read from the affected positions anyway
+            }
             final ExplosionEvent.Detonate detonate = (ExplosionEvent.Detonate) spongeEvent;
+            final List<BlockPos> affectedPositions = this.shadow$getExplosion().getAffectedBlockPositions();
+            final LongSet forgePositions = new LongOpenHashSet(affectedPositions.size());
+            for (BlockPos forgePos : affectedPositions) {
+                forgePositions.add(forgePos.toLong());
+            }
             detonate.getTransactions().forEach(transaction -> {
-                BlockPos pos = VecHelper.toBlockPos(transaction.getFinal().getPosition());
-                boolean match = false;
-                for (BlockPos forgePos : this.shadow$getExplosion().getAffectedBlockPositions()) {
-                    if (forgePos.getX() == pos.getX() && forgePos.getY() == pos.getY() && forgePos.getZ() == pos.getZ()) {
-                        match = true;
-                    }
-                }
-                if (!match) {
+                if (!forgePositions.contains(VecHelper.toBlockPos(transaction.getFinal().getPosition()).toLong())) {
                     transaction.setValid(false);
                 }
             });
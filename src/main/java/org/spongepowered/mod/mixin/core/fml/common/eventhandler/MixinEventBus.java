@@ -50,6 +50,7 @@
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.event.tracking.CauseTracker;
 import org.spongepowered.mod.event.SpongeForgeEventFactory;
 import org.spongepowered.mod.event.SpongeForgeEventHooks;
 import org.spongepowered.mod.event.SpongeModEventManager;
@@ -59,6 +60,7 @@
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -108,45 +110,64 @@ public boolean post(Event event, boolean forced) {
 
         IEventListener[] listeners = event.getListenerList().getListeners(this.busID);
         if (!forced && event instanceof org.spongepowered.api.event.Event && !Sponge.getGame().getPlatform().getExecutionType().isClient()) {
-            boolean cancelled = ((SpongeModEventManager) SpongeImpl.getGame().getEventManager()).post(null, event, listeners);
+            SpongeModEventManager manager = (SpongeModEventManager) SpongeImpl.getGame().getEventManager();
+            boolean cancelled;
+            if (manager.hasPluginListeners((org.spongepowered.api.event.Event) event)) {
+                cancelled = manager.post(null, event, listeners);
+            } else {
+                // No plugin listens to this event, skip the Sponge event entirely but keep its listener loop
+                manager.postToMods(event, listeners);
+                cancelled = event.isCancelable() && event.isCanceled();
+            }
             if (!cancelled) {
                 SpongeForgeEventFactory.onForgePost(event);
             }
 
             return cancelled;
         } else {
-            listeners = event.getListenerList().getListeners(this.busID);
-            int index = 0;
-            IMixinASMEventHandler modListener = null;
-            try {
-                if (SpongeImpl.isInitialized()) {
-                    TimingsManager.MOD_EVENT_HANDLER.startTimingIfSync();
-                }
-                for (; index < listeners.length; index++) {
-                    final IEventListener listener = listeners[index];
-                    if (listener instanceof IMixinASMEventHandler ) {
-                        modListener = (IMixinASMEventHandler) listener;
-                        modListener.getTimingsHandler().startTimingIfSync();
-                        SpongeForgeEventHooks.preEventPhaseCheck(listener, event);
-                        listener.invoke(event);
-                        SpongeForgeEventHooks.postEventPhaseCheck(listener, event);
-                        modListener.getTimingsHandler().stopTimingIfSync();
-                    } else {
-                        listener.invoke(event);
+            return postToListeners(event, listeners);
+        }
+    }
+
+    private boolean postToListeners(Event event, IEventListener[] listeners) {
+        int index = 0;
+        IMixinASMEventHandler modListener = null;
+        List<CauseTracker> listenerPhases = null;
+        try {
+            if (SpongeImpl.isInitialized()) {
+                TimingsManager.MOD_EVENT_HANDLER.startTimingIfSync();
+            }
+            for (; index < listeners.length; index++) {
+                final IEventListener listener = listeners[index];
+                if (listener instanceof IMixinASMEventHandler ) {
+                    modListener = (IMixinASMEventHandler) listener;
+                    modListener.getTimingsHandler().startTimingIfSync();
+                    listenerPhases = SpongeForgeEventHooks.preEventPhaseCheck(listener, event);
+                    listener.invoke(event);
+                    if (listenerPhases != null) {
+                        final List<CauseTracker> completedPhases = listenerPhases;
+                        listenerPhases = null;
+                        SpongeForgeEventHooks.postEventPhaseCheck(completedPhases);
                     }
-                }
-            } catch (Throwable throwable) {
-                if (modListener != null) {
                     modListener.getTimingsHandler().stopTimingIfSync();
+                } else {
+                    listener.invoke(event);
                 }
-                this.exceptionHandler.handleException(this.eventBus, event, listeners, index, throwable);
-                Throwables.propagate(throwable);
             }
-            if (SpongeImpl.isInitialized()) {
-                TimingsManager.MOD_EVENT_HANDLER.stopTimingIfSync();
+        } catch (Throwable throwable) {
+            if (modListener != null) {
+                modListener.getTimingsHandler().stopTimingIfSync();
             }
-            return (event.isCancelable() ? event.isCanceled() : false);
+            if (listenerPhases != null) {
+                SpongeForgeEventHooks.postEventPhaseCheck(listenerPhases);
+            }
+            this.exceptionHandler.handleException(this.eventBus, event, listeners, index, throwable);
+            Throwables.propagate(throwable);
+        }
+        if (SpongeImpl.isInitialized()) {
+            TimingsManager.MOD_EVENT_HANDLER.stopTimingIfSync();
         }
+        return (event.isCancelable() ? event.isCanceled() : false);
     }
 
     @SuppressWarnings("unchecked")
@@ -24,8 +24,6 @@
  */
 package org.spongepowered.mod.mixin.core.forge;
 
-import com.google.common.collect.HashMultiset;
-import com.google.common.collect.Multiset;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.world.DimensionType;
@@ -33,25 +31,19 @@
 import net.minecraft.world.WorldServer;
 import net.minecraftforge.common.DimensionManager;
 import net.minecraftforge.fml.common.FMLLog;
-import org.spongepowered.api.world.WorldArchetype;
 import org.spongepowered.api.world.storage.WorldProperties;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Overwrite;
-import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.common.SpongeImpl;
-import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
-import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.world.WorldManager;
-import org.spongepowered.mod.SpongeMod;
+import org.spongepowered.mod.world.DimensionInitializer;
+import org.spongepowered.mod.world.DimensionSnapshots;
+import org.spongepowered.mod.world.WorldLeakDetector;
 
 import java.io.File;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Hashtable;
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * This mixin redirects all logic in Forge to our WorldManager.
@@ -59,8 +51,6 @@
 @Mixin(value = DimensionManager.class, remap = false)
 public abstract class MixinDimensionManager {
 
-    @Shadow static Multiset<Integer> leakedWorlds = HashMultiset.create();
-
     @Overwrite
     public static int[] getDimensions(DimensionType type) {
         return (int[]) (Object) WorldManager.getRegisteredDimensionIdsFor(type);
@@ -103,44 +93,20 @@ public static WorldProvider getProvider(int dim) {
     }
 
     /**
-     * Gets loaded dimension ids
-     * @param check Check for leaked worlds
+     * Gets loaded dimension ids. Leaked worlds are reported by the
+     * {@link WorldLeakDetector} instead of being scanned for here.
+     *
+     * @param check Check for leaked worlds, ignored
      * @return An array of loaded dimension ids
      */
     @Overwrite
     public static Integer[] getIDs(boolean check) {
-        if (check) {
-
-            final List<WorldServer> candidateLeakedWorlds = new ArrayList<>(WorldManager.getWeakWorldMap().values());
-            candidateLeakedWorlds.removeAll(WorldManager.getWorlds());
-
-            leakedWorlds
-                    .addAll(candidateLeakedWorlds.stream().map(System::identityHashCode).collect(Collectors.toList()));
-
-            for (WorldServer worldServer : WorldManager.getWorlds()) {
-                final int hashCode = System.identityHashCode(worldServer);
-                final int leakCount = leakedWorlds.count(hashCode);
-
-
-                // Log every 5 loops
-                if (leakCount > 0 && leakCount % 5 == 0) {
-                    SpongeImpl.getLogger().warn("World [{}] (DIM{}) (HASH: {}) may have leaked. Encountered [{}] times", worldServer.getWorldInfo()
-                            .getWorldName(), ((IMixinWorldServer) worldServer).getDimensionId(), hashCode, leakCount);
-                }
-            }
-        }
-
         return getIDs();
     }
 
     @Overwrite
     public static Integer[] getIDs() {
-        final int[] spongeDimIds = WorldManager.getLoadedWorldDimensionIds();
-        Integer[] forgeDimIds = new Integer[spongeDimIds.length];
-        for (int i = 0; i < spongeDimIds.length; i++) {
-            forgeDimIds[i] = spongeDimIds[i];
-        }
-        return forgeDimIds;
+        return DimensionSnapshots.getLoadedDimensionIds();
     }
 
     @Overwrite
@@ -159,6 +125,7 @@ public static void setWorld(int id, WorldServer world, MinecraftServer server) {
     /**
      * @author Zidane - June 2nd, 2016
      * @reason Forge's initDimension is very different from Sponge's multi-world. We basically rig it into our system so mods work.
+     * Callers that can wait for the world should use {@link DimensionInitializer#initDimension(int)} instead.
      * @param dim The dimension to load
      */
     @Overwrite
@@ -169,37 +136,8 @@ public static void initDimension(int dim) {
             return;
         }
 
-        if (dim == 0) {
-            throw new RuntimeException("Attempt made to initialize overworld!");
-        }
-
-        WorldManager.getWorldByDimensionId(0).orElseThrow(() -> new RuntimeException("Attempt made to initialize "
-                + "dimension before overworld is loaded!"));
-
-        DimensionType dimensionType = WorldManager.getDimensionType(dim).orElse(null);
-        if (dimensionType == null) {
-            SpongeImpl.getLogger().warn("Attempt made to initialize dimension id {} which isn't registered!" 
-                    + ", falling back to overworld.", dim);
-            return;
-        }
-
-        final WorldProvider provider = dimensionType.createDimension();
-        // make sure to set the dimension id to avoid getting a null save folder
-        provider.setDimension(dim);
-        String worldFolder = WorldManager.getWorldFolderByDimensionId(dim).orElse(provider.getSaveFolder());
-        WorldProperties properties = WorldManager.getWorldProperties(worldFolder).orElse(null);
+        final WorldProperties properties = DimensionInitializer.getProperties(dim);
         if (properties == null) {
-            final WorldArchetype.Builder builder = WorldArchetype.builder()
-                    .dimension((org.spongepowered.api.world.DimensionType)(Object) dimensionType)
-                    .keepsSpawnLoaded(dimensionType.shouldLoadSpawn());
-            String modId = SpongeMod.instance.getModIdFromClass(provider.getClass());
-            final WorldArchetype archetype = builder.build(modId + ":" + dimensionType.getName().toLowerCase(), dimensionType.getName());
-            properties = WorldManager.createWorldProperties(worldFolder, archetype);
-            ((IMixinWorldInfo) properties).setDimensionId(dim);
-        }
-        if (!properties.isEnabled()) {
-            SpongeImpl.getLogger().warn("World [{}] (DIM{}) is disabled. World will not be loaded...", worldFolder,
-                    dim);
             return;
         }
 
@@ -216,18 +154,12 @@ public static WorldServer getWorld(int id) {
 
     @Overwrite
     public static WorldServer[] getWorlds() {
-        final Collection<WorldServer> worlds = WorldManager.getWorlds();
-        return worlds.toArray(new WorldServer[worlds.size()]);
+        return DimensionSnapshots.getWorlds();
     }
 
     @Overwrite
     public static Integer[] getStaticDimensionIDs() {
-        final int[] spongeDimIds = WorldManager.getRegisteredDimensionIds();
-        Integer[] forgeDimIds = new Integer[spongeDimIds.length];
-        for (int i = 0; i < spongeDimIds.length; i++) {
-            forgeDimIds[i] = spongeDimIds[i];
-        }
-        return forgeDimIds;
+        return DimensionSnapshots.getRegisteredDimensionIds();
     }
 
     @Overwrite
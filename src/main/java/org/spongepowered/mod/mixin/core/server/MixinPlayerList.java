@@ -27,24 +27,39 @@
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.server.management.PlayerList;
+import net.minecraft.world.Teleporter;
 import net.minecraft.world.WorldServer;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import org.spongepowered.api.util.annotation.NonnullByDefault;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.interfaces.IMixinPlayerList;
+import org.spongepowered.mod.world.DimensionInitializer;
 
 import javax.annotation.Nullable;
 
 @NonnullByDefault
-@Mixin(PlayerList.class)
+@Mixin(value = PlayerList.class, priority = 1001)
 public abstract class MixinPlayerList implements IMixinPlayerList {
 
     @Shadow public abstract void preparePlayer(EntityPlayerMP playerIn, @Nullable WorldServer worldIn);
     @Shadow public abstract void updateTimeAndWeatherForPlayer(EntityPlayerMP playerIn, WorldServer worldIn);
     @Shadow public abstract void syncPlayerInventory(EntityPlayerMP playerIn);
+    @Shadow(remap = false) public abstract void transferPlayerToDimension(EntityPlayerMP player, int dimension, Teleporter teleporter);
+
+    @Inject(method = "transferPlayerToDimension(Lnet/minecraft/entity/player/EntityPlayerMP;ILnet/minecraft/world/Teleporter;)V", at = @At("HEAD"),
+            cancellable = true, remap = false)
+    public void onTransferPlayerToDimension(EntityPlayerMP player, int dimension, Teleporter teleporter, CallbackInfo ci) {
+        // Loads an unloaded target dimension off the main thread first, if enabled
+        if (DimensionInitializer.getInstance().deferTransfer(player, dimension,
+                () -> this.transferPlayerToDimension(player, dimension, teleporter))) {
+            ci.cancel();
+        }
+    }
 
     /**
      * @author Simon816
@@ -28,6 +28,7 @@
 import net.minecraft.server.management.PlayerChunkMap;
 import net.minecraft.server.management.PlayerChunkMapEntry;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.gen.ChunkProviderServer;
 import org.spongepowered.asm.mixin.Final;
@@ -38,6 +39,7 @@
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.mod.entity.PlayerChunkRunnable;
 import org.spongepowered.mod.interfaces.IMixinPlayerChunkMapEntry;
+import org.spongepowered.mod.world.PlayerChunkLoadQueue;
 
 import java.util.List;
 
@@ -54,9 +56,17 @@ public class MixinPlayerChunkMapEntry implements IMixinPlayerChunkMapEntry {
 
     @Redirect(method = "<init>", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/gen/ChunkProviderServer;loadChunk(IILjava/lang/Runnable;)Lnet/minecraft/world/chunk/Chunk;", remap = false))
     public Chunk onLoadChunk(ChunkProviderServer chunkProviderServer, int chunkX, int chunkZ, Runnable runnable) {
-        this.loading = true;
         this.loadedRunnable = new PlayerChunkRunnable(this.playerChunkMap, (PlayerChunkMapEntry) (Object) this);
-        this.chunk = this.playerChunkMap.getWorldServer().getChunkProvider().loadChunk(chunkX, chunkZ, this.loadedRunnable);
+        return this.queueChunkLoad(this.playerChunkMap.getWorldServer().getChunkProvider(), chunkX, chunkZ);
+    }
+
+    // Loaded chunks are used right away, others are queued by distance to the watching players
+    private Chunk queueChunkLoad(ChunkProviderServer chunkProviderServer, int chunkX, int chunkZ) {
+        this.loading = true;
+        this.chunk = chunkProviderServer.getLoadedChunk(chunkX, chunkZ);
+        if (this.chunk == null) {
+            PlayerChunkLoadQueue.get(this.playerChunkMap.getWorldServer()).request((PlayerChunkMapEntry) (Object) this, this.loadedRunnable);
+        }
         this.markChunkUsed();
         return this.chunk;
     }
@@ -77,12 +87,11 @@ public Chunk onProvidePlayerChunk(ChunkProviderServer chunkProviderServer, int c
         this.loading = true;
         if (!chunkProviderServer.chunkExists(chunkX, chunkZ)) {
             this.chunk = chunkProviderServer.provideChunk(chunkX, chunkZ);
-        } else {
-            // try to load chunk async
-            this.chunk = chunkProviderServer.loadChunk(chunkX, chunkZ, this.loadedRunnable);
+            markChunkUsed();
+            return this.chunk;
         }
-        markChunkUsed();
-        return this.chunk;
+        // try to load chunk async
+        return this.queueChunkLoad(chunkProviderServer, chunkX, chunkZ);
     }
 
     /**
@@ -92,10 +101,7 @@ public Chunk onProvidePlayerChunk(ChunkProviderServer chunkProviderServer, int c
     @Redirect(method = "providePlayerChunk", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/gen/ChunkProviderServer;loadChunk(II)Lnet/minecraft/world/chunk/Chunk;"))
     public Chunk onLoadPlayerChunk(ChunkProviderServer chunkProviderServer, int chunkX, int chunkZ) {
         // try to load chunk async
-        this.loading = true;
-        this.chunk = chunkProviderServer.loadChunk(chunkX, chunkZ, this.loadedRunnable);
-        this.markChunkUsed();
-        return this.chunk;
+        return this.queueChunkLoad(chunkProviderServer, chunkX, chunkZ);
     }
 
     // Called by PlayerChunkRunnable after a chunk is loaded
@@ -109,4 +115,19 @@ public void setChunk(Chunk chunk) {
     public void setLoading(boolean loading) {
         this.loading = loading;
     }
+
+    @Override
+    public boolean isLoading() {
+        return this.loading;
+    }
+
+    @Override
+    public boolean hasPlayers() {
+        return !this.players.isEmpty();
+    }
+
+    @Override
+    public WorldServer getWorldServer() {
+        return this.playerChunkMap.getWorldServer();
+    }
 }
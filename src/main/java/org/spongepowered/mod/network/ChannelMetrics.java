@@ -0,0 +1,242 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.network;
+
+import co.aikar.timings.SpongeTimingsFactory;
+import co.aikar.timings.Timing;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import net.minecraft.network.NetHandlerPlayServer;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
+/**
+ * Traffic counters of a single plugin channel. Nothing is recorded unless
+ * metrics are {@link #setEnabled enabled}, which keeps the cost of a send or
+ * receive to a single volatile read while they are off.
+ */
+public final class ChannelMetrics {
+
+    // One in this many payloads is added to the size histogram
+    private static final int HISTOGRAM_SAMPLE_RATE = 8;
+    private static final Map<String, ChannelMetrics> channels = Maps.newConcurrentMap();
+    private static volatile boolean enabled;
+
+    private final String channel;
+    private final Traffic total = new Traffic();
+    private final Map<UUID, Traffic> players = Maps.newConcurrentMap();
+    private final LongAdder encodeNanos = new LongAdder();
+    private final LongAdder decodeNanos = new LongAdder();
+    // Sampled payload sizes, bucketed by their bit length
+    private final LongAdder[] sizeHistogram = new LongAdder[32];
+    @Nullable private Timing handlerTiming;
+
+    private ChannelMetrics(String channel) {
+        this.channel = channel;
+        for (int i = 0; i < this.sizeHistogram.length; i++) {
+            this.sizeHistogram[i] = new LongAdder();
+        }
+    }
+
+    static ChannelMetrics of(String channel) {
+        return channels.computeIfAbsent(channel, ChannelMetrics::new);
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        ChannelMetrics.enabled = enabled;
+    }
+
+    public static Map<String, ChannelMetrics> getChannels() {
+        return ImmutableMap.copyOf(channels);
+    }
+
+    /**
+     * Clears the counters of every channel.
+     */
+    public static void resetAll() {
+        for (ChannelMetrics metrics : channels.values()) {
+            metrics.reset();
+        }
+    }
+
+    /**
+     * Drops the counters of a player from every channel, so that players who
+     * left do not accumulate for the lifetime of the server.
+     *
+     * @param player The unique id of the player
+     */
+    public static void removePlayer(UUID player) {
+        for (ChannelMetrics metrics : channels.values()) {
+            metrics.players.remove(player);
+        }
+    }
+
+    void recordOutbound(@Nullable UUID player, int bytes) {
+        record(player, bytes, true);
+    }
+
+    void recordInbound(@Nullable UUID player, int bytes) {
+        record(player, bytes, false);
+    }
+
+    private void record(@Nullable UUID player, int bytes, boolean outbound) {
+        this.total.record(bytes, outbound);
+        if (player != null) {
+            this.players.computeIfAbsent(player, key -> new Traffic()).record(bytes, outbound);
+        }
+        if (ThreadLocalRandom.current().nextInt(HISTOGRAM_SAMPLE_RATE) == 0) {
+            this.sizeHistogram[32 - Integer.numberOfLeadingZeros(bytes)].increment();
+        }
+    }
+
+    /**
+     * Gets the unique id of the player behind the given network handler.
+     *
+     * @param netHandler The network handler
+     * @return The player id, or null on the client side
+     */
+    @Nullable
+    static UUID getPlayerId(@Nullable Object netHandler) {
+        return netHandler instanceof NetHandlerPlayServer ? ((NetHandlerPlayServer) netHandler).playerEntity.getUniqueID() : null;
+    }
+
+    void recordEncode(long nanos) {
+        this.encodeNanos.add(nanos);
+    }
+
+    void recordDecode(long nanos) {
+        this.decodeNanos.add(nanos);
+    }
+
+    /**
+     * Gets the timing of the handlers of this channel that run on the main
+     * thread.
+     *
+     * @return The timing
+     */
+    Timing getHandlerTiming() {
+        if (this.handlerTiming == null) {
+            this.handlerTiming = SpongeTimingsFactory.ofSafe("Plugin Channel - " + this.channel);
+        }
+        return this.handlerTiming;
+    }
+
+    public String getChannel() {
+        return this.channel;
+    }
+
+    public Traffic getTotal() {
+        return this.total;
+    }
+
+    public Map<UUID, Traffic> getPlayers() {
+        return ImmutableMap.copyOf(this.players);
+    }
+
+    public long getEncodeNanos() {
+        return this.encodeNanos.sum();
+    }
+
+    public long getDecodeNanos() {
+        return this.decodeNanos.sum();
+    }
+
+    /**
+     * Gets the sampled payload size histogram, where bucket {@code i} counts
+     * the payloads of {@code 2^(i-1)} up to {@code 2^i - 1} bytes.
+     *
+     * @return The bucket counts
+     */
+    public long[] getSizeHistogram() {
+        long[] histogram = new long[this.sizeHistogram.length];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = this.sizeHistogram[i].sum();
+        }
+        return histogram;
+    }
+
+    private void reset() {
+        this.total.reset();
+        this.players.clear();
+        this.encodeNanos.reset();
+        this.decodeNanos.reset();
+        for (LongAdder bucket : this.sizeHistogram) {
+            bucket.reset();
+        }
+    }
+
+    /**
+     * Message and byte counts in both directions.
+     */
+    public static final class Traffic {
+
+        private final LongAdder outboundMessages = new LongAdder();
+        private final LongAdder outboundBytes = new LongAdder();
+        private final LongAdder inboundMessages = new LongAdder();
+        private final LongAdder inboundBytes = new LongAdder();
+
+        void record(int bytes, boolean outbound) {
+            if (outbound) {
+                this.outboundMessages.increment();
+                this.outboundBytes.add(bytes);
+            } else {
+                this.inboundMessages.increment();
+                this.inboundBytes.add(bytes);
+            }
+        }
+
+        void reset() {
+            this.outboundMessages.reset();
+            this.outboundBytes.reset();
+            this.inboundMessages.reset();
+            this.inboundBytes.reset();
+        }
+
+        public long getOutboundMessages() {
+            return this.outboundMessages.sum();
+        }
+
+        public long getOutboundBytes() {
+            return this.outboundBytes.sum();
+        }
+
+        public long getInboundMessages() {
+            return this.inboundMessages.sum();
+        }
+
+        public long getInboundBytes() {
+            return this.inboundBytes.sum();
+        }
+    }
+}
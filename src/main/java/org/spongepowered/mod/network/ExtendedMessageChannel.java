@@ -0,0 +1,91 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.network;
+
+import org.spongepowered.api.Platform;
+import org.spongepowered.api.network.ChannelBinding.IndexedMessageChannel;
+import org.spongepowered.api.network.Message;
+import org.spongepowered.api.network.MessageHandler;
+
+import java.util.Optional;
+
+/**
+ * An {@link IndexedMessageChannel} that can batch outgoing messages and
+ * move the execution of its handlers off the netty I/O thread. Every
+ * indexed channel created by SpongeForge is one, see
+ * {@link #of(IndexedMessageChannel)}.
+ *
+ * <p>Outgoing messages sent to each player during a server tick can be
+ * coalesced into as few packets as possible, sent at the end of the
+ * tick. Messages sent from other threads while batching is enabled are
+ * handed to the main thread, so they cannot overtake the messages
+ * already batched. The receiving side must also be running Sponge to
+ * unpack them, so batching is disabled by default.</p>
+ *
+ * <p>This is a SpongeForge extension and not part of the SpongeAPI. Plugins
+ * using it only run on SpongeForge.</p>
+ */
+public interface ExtendedMessageChannel extends IndexedMessageChannel {
+
+    /**
+     * Gets the given channel as an extended message channel, if it is one.
+     *
+     * @param channel The channel
+     * @return The extended message channel, if available
+     */
+    static Optional<ExtendedMessageChannel> of(IndexedMessageChannel channel) {
+        return channel instanceof ExtendedMessageChannel ? Optional.of((ExtendedMessageChannel) channel) : Optional.empty();
+    }
+
+    /**
+     * Adds a handler for the given message type on the given side, run
+     * in the given {@link HandlerExecution} mode.
+     *
+     * @param messageClass The message class
+     * @param side The side the handler receives on
+     * @param handler The handler
+     * @param execution Where the handler is executed
+     * @param <M> The message type
+     */
+    <M extends Message> void addHandler(Class<M> messageClass, Platform.Type side, MessageHandler<M> handler, HandlerExecution execution);
+
+    /**
+     * Gets whether messages sent from the main thread are batched.
+     *
+     * @return Whether batching is enabled
+     */
+    boolean isBatching();
+
+    /**
+     * Sets whether messages sent from the main thread are batched. Any
+     * messages still waiting are sent when batching is disabled.
+     *
+     * @param batching Whether to batch messages
+     * @throws IllegalStateException If a message is registered with the
+     *     reserved id {@code 255}
+     */
+    void setBatching(boolean batching);
+
+}
@@ -0,0 +1,56 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.network;
+
+import org.spongepowered.api.network.MessageHandler;
+
+/**
+ * Where the {@link MessageHandler}s of an {@link ExtendedMessageChannel} are
+ * executed.
+ *
+ * <p>This is a SpongeForge extension and not part of the SpongeAPI. Plugins
+ * using it only run on SpongeForge.</p>
+ */
+public enum HandlerExecution {
+    /**
+     * Inline on the netty I/O thread the message was read on.
+     */
+    IO_THREAD,
+    /**
+     * On a bounded pool shared by all channels. Messages are dropped
+     * while the pool is saturated.
+     */
+    WORKER,
+    /**
+     * On the main thread, once per tick for all messages received since
+     * the previous tick. Messages are dropped while too many are waiting.
+     */
+    MAIN_THREAD,
+    /**
+     * On the main thread, once per tick, for only the latest message each
+     * connection sent since the previous tick.
+     */
+    MAIN_THREAD_LATEST
+}
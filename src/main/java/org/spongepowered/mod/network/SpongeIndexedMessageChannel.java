@@ -26,25 +26,39 @@
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandler;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.network.NetHandlerPlayServer;
 import net.minecraftforge.fml.common.network.FMLEmbeddedChannel;
+import net.minecraftforge.fml.common.network.FMLOutboundHandler;
+import net.minecraftforge.fml.common.network.internal.FMLProxyPacket;
 import net.minecraftforge.fml.relauncher.Side;
 import org.spongepowered.api.Platform;
 import org.spongepowered.api.entity.living.player.Player;
-import org.spongepowered.api.network.ChannelBinding;
 import org.spongepowered.api.network.ChannelRegistrar;
 import org.spongepowered.api.network.Message;
 import org.spongepowered.api.network.MessageHandler;
 import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.SpongeImpl;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
-class SpongeIndexedMessageChannel extends SpongeModChannelBinding implements ChannelBinding.IndexedMessageChannel {
+class SpongeIndexedMessageChannel extends SpongeModChannelBinding implements ExtendedMessageChannel {
 
     private SpongeMessageCodec packetCodec;
     private final Set<Class<? extends Message>> knownClasses = Sets.newHashSet();
+    // Encoded messages waiting for the end of the tick, only touched on the main thread
+    private final Map<EntityPlayerMP, List<ByteBuf>> pendingMessages = Maps.newLinkedHashMap();
+    private boolean batching;
 
     public SpongeIndexedMessageChannel(ChannelRegistrar registrar, String channelName, PluginContainer owner) {
         super(registrar, channelName, owner);
@@ -52,13 +66,16 @@ public SpongeIndexedMessageChannel(ChannelRegistrar registrar, String channelNam
 
     @Override
     protected ChannelHandler[] getHandlers() {
-        return new ChannelHandler[] {this.packetCodec = new SpongeMessageCodec()};
+        this.packetCodec = new SpongeMessageCodec(this.metrics);
+        return new ChannelHandler[] {new SpongeMessageBatchDecoder(this.packetCodec), this.packetCodec};
     }
 
     @Override
     public void registerMessage(Class<? extends Message> messageClass, int messageId) {
         checkValidState();
         checkArgument(!this.knownClasses.contains(checkNotNull(messageClass, "messageClass")), "Message class already registered");
+        checkArgument(!this.batching || (byte) messageId != SpongeMessageCodec.BATCH_DISCRIMINATOR, "Message id %s is reserved on batching channels",
+                messageId);
         this.packetCodec.addDiscriminator(messageId, messageClass);
         this.knownClasses.add(messageClass);
     }
@@ -95,13 +112,100 @@ public <M extends Message> void addHandler(Class<M> messageClass, MessageHandler
         addHandlerForSide(Platform.Type.SERVER, messageClass, handler);
     }
 
+    @Override
+    public <M extends Message> void addHandler(Class<M> messageClass, Platform.Type side, MessageHandler<M> handler,
+            HandlerExecution execution) {
+        checkArgument(this.knownClasses.contains(checkNotNull(messageClass, "messageClass")), "Message class %s is not registered", messageClass);
+        checkNotNull(handler, "handler");
+        checkArgument(checkNotNull(side, "side").isKnown(), "Invalid side");
+        addHandlerForSide(side, messageClass, handler, checkNotNull(execution, "execution"));
+    }
+
     private <M extends Message> void addHandlerForSide(Platform.Type side, Class<M> messageClass, MessageHandler<M> handler) {
+        addHandlerForSide(side, messageClass, handler, HandlerExecution.IO_THREAD);
+    }
+
+    private <M extends Message> void addHandlerForSide(Platform.Type side, Class<M> messageClass, MessageHandler<M> handler,
+            HandlerExecution execution) {
         FMLEmbeddedChannel channel = this.channels.get(side.isClient() ? Side.CLIENT : Side.SERVER);
         String type = channel.findChannelHandlerNameForType(SpongeMessageCodec.class);
-        SpongeMessageInboundHandler<M> channelHandler = new SpongeMessageInboundHandler<>(handler, messageClass, side);
+        SpongeMessageInboundHandler<M> channelHandler = new SpongeMessageInboundHandler<>(handler, messageClass, side, execution,
+                execution == HandlerExecution.WORKER ? this.networkManager.getHandlerWorkers() : null, this.metrics);
         channel.pipeline().addAfter(type, handler.getClass().getName(), channelHandler);
     }
 
+    @Override
+    protected FMLProxyPacket encode(Object data) {
+        return this.packetCodec.encode((Message) data, getName());
+    }
+
+    @Override
+    public boolean isBatching() {
+        return this.batching;
+    }
+
+    @Override
+    public void setBatching(boolean batching) {
+        checkValidState();
+        checkState(!batching || !this.packetCodec.hasDiscriminator(SpongeMessageCodec.BATCH_DISCRIMINATOR),
+                "A message is registered with the reserved batch id");
+        if (!batching) {
+            flushBatches();
+        }
+        this.batching = batching;
+    }
+
+    private boolean shouldBatch() {
+        return this.batching && SpongeImpl.getGame().isServerAvailable() && SpongeImpl.getServer().isCallingFromMinecraftThread();
+    }
+
+    /**
+     * Hands a send made off the main thread over to the main thread while
+     * batching is enabled, so that it is queued behind the messages already
+     * batched for the tick instead of overtaking them.
+     *
+     * @param message The message being sent
+     * @param send The send to repeat on the main thread
+     * @return Whether the send was handed over
+     */
+    private boolean deferToMainThread(Message message, Runnable send) {
+        checkMessage(message);
+        if (!this.batching || !SpongeImpl.getGame().isServerAvailable() || SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+            return false;
+        }
+        SpongeImpl.getServer().addScheduledTask(send);
+        return true;
+    }
+
+    private void queue(EntityPlayerMP player, ByteBuf payload) {
+        if (ChannelMetrics.isEnabled()) {
+            this.metrics.recordOutbound(player.getUniqueID(), payload.readableBytes());
+        }
+        if (this.pendingMessages.isEmpty()) {
+            this.networkManager.queueBatches(this);
+        }
+        this.pendingMessages.computeIfAbsent(player, key -> Lists.newArrayList()).add(payload);
+    }
+
+    void flushBatches() {
+        if (this.pendingMessages.isEmpty()) {
+            return;
+        }
+        FMLEmbeddedChannel channel = this.channels.get(Side.SERVER);
+        for (Map.Entry<EntityPlayerMP, List<ByteBuf>> entry : this.pendingMessages.entrySet()) {
+            EntityPlayerMP player = entry.getKey();
+            if (!player.connection.netManager.isChannelOpen()) {
+                continue;
+            }
+            for (FMLProxyPacket packet : this.packetCodec.encodeBatches(entry.getValue(), getName())) {
+                channel.attr(FMLOutboundHandler.FML_MESSAGETARGET).set(FMLOutboundHandler.OutboundTarget.PLAYER);
+                channel.attr(FMLOutboundHandler.FML_MESSAGETARGETARGS).set(player);
+                channel.writeAndFlush(packet).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+            }
+        }
+        this.pendingMessages.clear();
+    }
+
     private Message checkMessage(Message message) {
         checkArgument(this.knownClasses.contains(checkNotNull(message, "message").getClass()), "unknown message type");
         return message;
@@ -109,6 +213,16 @@ private Message checkMessage(Message message) {
 
     @Override
     public void sendTo(Player player, Message message) {
+        if (deferToMainThread(message, () -> sendTo(player, message))) {
+            return;
+        }
+        if (shouldBatch()) {
+            checkValidState();
+            if (acceptsChannel((EntityPlayerMP) player)) {
+                queue((EntityPlayerMP) player, encodePacket(checkMessage(message)).payload());
+            }
+            return;
+        }
         super.sendTo(player, checkMessage(message));
     }
 
@@ -119,6 +233,21 @@ public void sendToServer(Message message) {
 
     @Override
     public void sendToAll(Message message) {
+        if (deferToMainThread(message, () -> sendToAll(message))) {
+            return;
+        }
+        if (shouldBatch()) {
+            checkValidState();
+            checkMessage(message);
+            ByteBuf payload = null;
+            for (NetHandlerPlayServer connection : this.networkManager.getSubscribers(getName())) {
+                if (payload == null) {
+                    payload = encodePacket(message).payload();
+                }
+                queue(connection.playerEntity, payload.duplicate());
+            }
+            return;
+        }
         super.sendToAll(checkMessage(message));
     }
 
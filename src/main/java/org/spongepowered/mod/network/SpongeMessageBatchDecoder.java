@@ -0,0 +1,65 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.network;
+
+import io.netty.channel.ChannelHandler.Sharable;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToMessageDecoder;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.common.network.internal.FMLProxyPacket;
+
+import java.util.List;
+
+/**
+ * Splits batched payloads back into one packet per message before they reach
+ * the {@link SpongeMessageCodec}.
+ */
+@Sharable
+public class SpongeMessageBatchDecoder extends MessageToMessageDecoder<FMLProxyPacket> {
+
+    private final SpongeMessageCodec codec;
+
+    public SpongeMessageBatchDecoder(SpongeMessageCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, FMLProxyPacket msg, List<Object> out) throws Exception {
+        if (!this.codec.isBatch(msg.payload())) {
+            out.add(msg);
+            return;
+        }
+        PacketBuffer payload = new PacketBuffer(msg.payload().duplicate());
+        payload.skipBytes(1);
+        while (payload.isReadable()) {
+            int size = payload.readVarIntFromBuffer();
+            FMLProxyPacket message = new FMLProxyPacket(new PacketBuffer(payload.readSlice(size)), msg.channel());
+            message.setTarget(msg.getTarget());
+            message.setDispatcher(msg.getDispatcher());
+            out.add(message);
+        }
+    }
+
+}
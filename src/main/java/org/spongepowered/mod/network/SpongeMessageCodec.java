@@ -24,14 +24,116 @@
  */
 package org.spongepowered.mod.network;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.Lists;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import it.unimi.dsi.fastutil.objects.Object2ByteMap;
+import it.unimi.dsi.fastutil.objects.Object2ByteOpenHashMap;
+import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.common.network.FMLIndexedMessageToMessageCodec;
+import net.minecraftforge.fml.common.network.NetworkRegistry;
+import net.minecraftforge.fml.common.network.internal.FMLProxyPacket;
 import org.spongepowered.api.network.Message;
 import org.spongepowered.common.network.SpongeNetworkManager;
 
+import java.util.Collections;
+import java.util.List;
+
 public class SpongeMessageCodec extends FMLIndexedMessageToMessageCodec<Message> {
 
+    /**
+     * The discriminator marking a payload that holds several length prefixed
+     * messages. It can't be used for messages on a batching channel.
+     */
+    static final byte BATCH_DISCRIMINATOR = -1;
+    // Vanilla clients reject custom payloads larger than 1 MiB
+    private static final int MAX_BATCH_SIZE = 0x100000;
+
+    private final ChannelMetrics metrics;
+    // FML keeps its discriminators private, they are tracked here to encode messages outside of the pipeline
+    private final Object2ByteMap<Class<? extends Message>> discriminators = new Object2ByteOpenHashMap<>();
+
+    public SpongeMessageCodec(ChannelMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public FMLIndexedMessageToMessageCodec<Message> addDiscriminator(int discriminator, Class<? extends Message> type) {
+        this.discriminators.put(type, (byte) discriminator);
+        return super.addDiscriminator(discriminator, type);
+    }
+
+    /**
+     * Encodes the given message into a packet the same way it would be
+     * encoded in the channel pipeline.
+     *
+     * @param msg The message
+     * @param channel The channel name
+     * @return The encoded packet
+     */
+    FMLProxyPacket encode(Message msg, String channel) {
+        checkArgument(this.discriminators.containsKey(msg.getClass()), "Undefined discriminator for message type %s in channel %s",
+                msg.getClass().getSimpleName(), channel);
+        PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+        buffer.writeByte(this.discriminators.getByte(msg.getClass()));
+        msg.writeTo(SpongeNetworkManager.toChannelBuf(buffer));
+        return new FMLProxyPacket(buffer, channel);
+    }
+
+    boolean hasDiscriminator(byte discriminator) {
+        return this.discriminators.containsValue(discriminator);
+    }
+
+    /**
+     * Gets whether the given payload is a batch of messages.
+     *
+     * @param payload The payload
+     * @return Whether it is a batch
+     */
+    boolean isBatch(ByteBuf payload) {
+        return payload.isReadable() && payload.getByte(payload.readerIndex()) == BATCH_DISCRIMINATOR && !hasDiscriminator(BATCH_DISCRIMINATOR);
+    }
+
+    /**
+     * Frames the given encoded messages into as few packets as possible.
+     *
+     * @param messages The encoded messages, as created by {@link #encode}
+     * @param channel The channel name
+     * @return The packets to send
+     */
+    List<FMLProxyPacket> encodeBatches(List<ByteBuf> messages, String channel) {
+        if (messages.size() == 1) {
+            return Collections.singletonList(new FMLProxyPacket(new PacketBuffer(messages.get(0)), channel));
+        }
+        List<FMLProxyPacket> packets = Lists.newArrayList();
+        PacketBuffer batch = null;
+        for (ByteBuf message : messages) {
+            int size = message.readableBytes();
+            // Length prefix takes up to 5 bytes, the batch marker another one
+            if (size + 6 > MAX_BATCH_SIZE) {
+                packets.add(new FMLProxyPacket(new PacketBuffer(message), channel));
+                continue;
+            }
+            if (batch != null && batch.writerIndex() + size + 5 > MAX_BATCH_SIZE) {
+                packets.add(new FMLProxyPacket(batch, channel));
+                batch = null;
+            }
+            if (batch == null) {
+                batch = new PacketBuffer(Unpooled.buffer());
+                batch.writeByte(BATCH_DISCRIMINATOR);
+            }
+            batch.writeVarIntToBuffer(size);
+            batch.writeBytes(message, message.readerIndex(), size);
+        }
+        if (batch != null) {
+            packets.add(new FMLProxyPacket(batch, channel));
+        }
+        return packets;
+    }
+
     @Override
     public void encodeInto(ChannelHandlerContext ctx, Message msg, ByteBuf target) throws Exception {
         msg.writeTo(SpongeNetworkManager.toChannelBuf(target));
@@ -39,7 +141,15 @@ public void encodeInto(ChannelHandlerContext ctx, Message msg, ByteBuf target) t
 
     @Override
     public void decodeInto(ChannelHandlerContext ctx, ByteBuf source, Message msg) {
+        if (!ChannelMetrics.isEnabled()) {
+            msg.readFrom(SpongeNetworkManager.toChannelBuf(source));
+            return;
+        }
+        // The discriminator was already read
+        this.metrics.recordInbound(ChannelMetrics.getPlayerId(ctx.channel().attr(NetworkRegistry.NET_HANDLER).get()), source.readableBytes() + 1);
+        long start = System.nanoTime();
         msg.readFrom(SpongeNetworkManager.toChannelBuf(source));
+        this.metrics.recordDecode(System.nanoTime() - start);
     }
 
 }
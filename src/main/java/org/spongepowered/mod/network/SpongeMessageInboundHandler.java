@@ -24,35 +24,145 @@
  */
 package org.spongepowered.mod.network;
 
+import co.aikar.timings.Timing;
+import co.aikar.timings.Timings;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Queues;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import net.minecraft.network.INetHandler;
+import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.common.network.NetworkRegistry;
 import org.spongepowered.api.Platform;
 import org.spongepowered.api.network.Message;
 import org.spongepowered.api.network.MessageHandler;
 import org.spongepowered.api.network.RemoteConnection;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.util.SpongeHooks;
 
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
 public class SpongeMessageInboundHandler<M extends Message> extends SimpleChannelInboundHandler<M> {
 
+    private static final int MAX_PENDING_MESSAGES = 4096;
+    private static final long DROP_WARNING_INTERVAL = TimeUnit.SECONDS.toNanos(30);
+
     private final MessageHandler<M> messageHandler;
     private final Platform.Type side;
+    private final HandlerExecution execution;
+    @Nullable private final Executor workers;
+    private final ChannelMetrics metrics;
+
+    // Messages waiting for the main thread
+    private final Queue<PendingMessage<M>> pendingMessages = Queues.newConcurrentLinkedQueue();
+    private final Map<RemoteConnection, M> latestMessages = Maps.newConcurrentMap();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    // Dropped messages not yet reported, warned about at most once per DROP_WARNING_INTERVAL
+    private final AtomicInteger droppedCount = new AtomicInteger();
+    private final AtomicLong lastDropWarning = new AtomicLong(System.nanoTime() - DROP_WARNING_INTERVAL);
 
-    public SpongeMessageInboundHandler(MessageHandler<M> handler, Class<M> requestType, Platform.Type side) {
+    public SpongeMessageInboundHandler(MessageHandler<M> handler, Class<M> requestType, Platform.Type side,
+            HandlerExecution execution, @Nullable Executor workers, ChannelMetrics metrics) {
         super(requestType);
         this.messageHandler = handler;
         this.side = side;
+        this.execution = execution;
+        this.workers = workers;
+        this.metrics = metrics;
     }
 
     @Override
     protected void channelRead0(ChannelHandlerContext ctx, M msg) throws Exception {
         INetHandler iNetHandler = ctx.channel().attr(NetworkRegistry.NET_HANDLER).get();
-        if (iNetHandler instanceof RemoteConnection) {
-            // NetHandlerPlayServer and NetHandlerPlayClient
-            this.messageHandler.handleMessage(msg, (RemoteConnection) iNetHandler, this.side);
-        } else {
+        if (!(iNetHandler instanceof RemoteConnection)) {
             ctx.fireChannelRead(msg); // Propagate message
+            return;
+        }
+        // NetHandlerPlayServer and NetHandlerPlayClient
+        RemoteConnection connection = (RemoteConnection) iNetHandler;
+        switch (this.execution) {
+            case WORKER:
+                try {
+                    this.workers.execute(() -> handle(msg, connection));
+                } catch (RejectedExecutionException e) {
+                    onDropped();
+                }
+                break;
+            case MAIN_THREAD:
+                if (this.pendingCount.incrementAndGet() > MAX_PENDING_MESSAGES) {
+                    this.pendingCount.decrementAndGet();
+                    onDropped();
+                    break;
+                }
+                this.pendingMessages.add(new PendingMessage<>(msg, connection));
+                scheduleDrain(iNetHandler);
+                break;
+            case MAIN_THREAD_LATEST:
+                // Replaces any message of this connection that wasn't handled yet
+                this.latestMessages.put(connection, msg);
+                scheduleDrain(iNetHandler);
+                break;
+            default:
+                this.messageHandler.handleMessage(msg, connection, this.side);
+        }
+    }
+
+    private void scheduleDrain(INetHandler netHandler) {
+        if (this.drainScheduled.compareAndSet(false, true)) {
+            // Everything received until the task runs is handled by it
+            FMLCommonHandler.instance().getWorldThread(netHandler).addScheduledTask(this::drain);
+        }
+    }
+
+    private void drain() {
+        this.drainScheduled.set(false);
+        Timing timing = null;
+        if (Timings.isTimingsEnabled()) {
+            timing = this.metrics.getHandlerTiming();
+            timing.startTimingIfSync();
+        }
+        PendingMessage<M> pending;
+        while ((pending = this.pendingMessages.poll()) != null) {
+            this.pendingCount.decrementAndGet();
+            handle(pending.message, pending.connection);
+        }
+        for (RemoteConnection connection : this.latestMessages.keySet()) {
+            // Removing by key never loses a message that replaced the one seen
+            M msg = this.latestMessages.remove(connection);
+            if (msg != null) {
+                handle(msg, connection);
+            }
+        }
+        if (timing != null) {
+            timing.stopTimingIfSync();
+        }
+    }
+
+    private void handle(M msg, RemoteConnection connection) {
+        try {
+            this.messageHandler.handleMessage(msg, connection, this.side);
+        } catch (Throwable t) {
+            SpongeHooks.logSevere("SpongeMessageInboundHandler exception", t);
+        }
+    }
+
+    private void onDropped() {
+        this.droppedCount.incrementAndGet();
+        final long now = System.nanoTime();
+        final long lastWarning = this.lastDropWarning.get();
+        if (now - lastWarning >= DROP_WARNING_INTERVAL && this.lastDropWarning.compareAndSet(lastWarning, now)) {
+            SpongeImpl.getLogger().warn("Dropped {} messages for {}, its handler can't keep up", this.droppedCount.getAndSet(0),
+                    this.messageHandler.getClass().getName());
         }
     }
 
@@ -61,4 +171,15 @@ public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws E
         SpongeHooks.logSevere("SpongeMessageInboundHandler exception", cause);
         super.exceptionCaught(ctx, cause);
     }
+
+    private static final class PendingMessage<M> {
+
+        final M message;
+        final RemoteConnection connection;
+
+        PendingMessage(M message, RemoteConnection connection) {
+            this.message = message;
+            this.connection = connection;
+        }
+    }
 }
@@ -30,9 +30,12 @@
 import io.netty.channel.ChannelHandler;
 import net.minecraft.client.Minecraft;
 import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.network.NetHandlerPlayServer;
+import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.common.network.FMLEmbeddedChannel;
 import net.minecraftforge.fml.common.network.FMLOutboundHandler;
 import net.minecraftforge.fml.common.network.NetworkRegistry;
+import net.minecraftforge.fml.common.network.internal.FMLProxyPacket;
 import net.minecraftforge.fml.relauncher.Side;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.network.ChannelRegistrar;
@@ -42,14 +45,19 @@
 import org.spongepowered.mod.interfaces.IMixinNetPlayHandler;
 
 import java.util.EnumMap;
+import java.util.Set;
 
 abstract class SpongeModChannelBinding extends AbstractChannelBinding {
 
     final EnumMap<Side, FMLEmbeddedChannel> channels;
+    final SpongeModNetworkManager networkManager;
+    final ChannelMetrics metrics;
     private boolean valid;
 
     public SpongeModChannelBinding(ChannelRegistrar registrar, String channelName, PluginContainer owner) {
         super(registrar, channelName, owner);
+        this.networkManager = (SpongeModNetworkManager) registrar;
+        this.metrics = ChannelMetrics.of(channelName);
         this.channels = NetworkRegistry.INSTANCE.newChannel(channelName, getHandlers());
         this.valid = true;
     }
@@ -60,11 +68,20 @@ protected final void checkValidState() {
         checkState(this.valid, "Channel bindng in invalid state (was it unbound?)");
     }
 
+    protected final boolean acceptsChannel(EntityPlayerMP player) {
+        return ((IMixinNetPlayHandler) player.connection).getRegisteredChannels().contains(getName());
+    }
+
     protected void sendTo(Player player, Object data) {
         checkValidState();
-        if (!((IMixinNetPlayHandler) ((EntityPlayerMP) player).connection).getRegisteredChannels().contains(getName())) {
+        if (!acceptsChannel((EntityPlayerMP) player)) {
             return; // Player doesn't accept this channel
         }
+        if (ChannelMetrics.isEnabled()) {
+            FMLProxyPacket packet = encodePacket(data);
+            this.metrics.recordOutbound(player.getUniqueId(), packet.payload().readableBytes());
+            data = packet;
+        }
         this.channels.get(Side.SERVER).attr(FMLOutboundHandler.FML_MESSAGETARGET).set(FMLOutboundHandler.OutboundTarget.PLAYER);
         this.channels.get(Side.SERVER).attr(FMLOutboundHandler.FML_MESSAGETARGETARGS).set(player);
         this.channels.get(Side.SERVER).writeAndFlush(data).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
@@ -75,16 +92,70 @@ protected void sendToServer(Object data) {
         if (!((IMixinNetPlayHandler) Minecraft.getMinecraft().thePlayer.connection).getRegisteredChannels().contains(getName())) {
             return; // Server doesn't accept this channel
         }
+        if (ChannelMetrics.isEnabled()) {
+            FMLProxyPacket packet = encodePacket(data);
+            this.metrics.recordOutbound(null, packet.payload().readableBytes());
+            data = packet;
+        }
         this.channels.get(Side.CLIENT).attr(FMLOutboundHandler.FML_MESSAGETARGET).set(FMLOutboundHandler.OutboundTarget.TOSERVER);
         this.channels.get(Side.CLIENT).writeAndFlush(data).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
     }
 
+    /**
+     * Gets whether any client is currently registered to this channel.
+     *
+     * @return Whether there are subscribers
+     */
+    protected boolean hasSubscribers() {
+        return !this.networkManager.getSubscribers(getName()).isEmpty();
+    }
+
     protected void sendToAll(Object data) {
         checkValidState();
-        // TODO Somehow make this check which players are registered to accept
-        // this channel
-        this.channels.get(Side.SERVER).attr(FMLOutboundHandler.FML_MESSAGETARGET).set(FMLOutboundHandler.OutboundTarget.ALL);
-        this.channels.get(Side.SERVER).writeAndFlush(data).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+        Set<NetHandlerPlayServer> subscribers = this.networkManager.getSubscribers(getName());
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        // Encode once, every subscriber gets its own view of the same payload
+        PacketBuffer payload = encodePacket(data).payload();
+        FMLEmbeddedChannel channel = this.channels.get(Side.SERVER);
+        for (NetHandlerPlayServer connection : subscribers) {
+            if (!connection.netManager.isChannelOpen()) {
+                continue;
+            }
+            if (ChannelMetrics.isEnabled()) {
+                this.metrics.recordOutbound(connection.playerEntity.getUniqueID(), payload.readableBytes());
+            }
+            channel.attr(FMLOutboundHandler.FML_MESSAGETARGET).set(FMLOutboundHandler.OutboundTarget.PLAYER);
+            channel.attr(FMLOutboundHandler.FML_MESSAGETARGETARGS).set(connection.playerEntity);
+            channel.writeAndFlush(new FMLProxyPacket(new PacketBuffer(payload.duplicate()), getName()))
+                    .addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+        }
+    }
+
+    /**
+     * Encodes the given data into the packet sent on this channel.
+     *
+     * @param data The data
+     * @return The packet
+     */
+    protected abstract FMLProxyPacket encode(Object data);
+
+    /**
+     * Encodes the given data, recording the time taken if metrics are
+     * enabled.
+     *
+     * @param data The data
+     * @return The packet
+     */
+    protected final FMLProxyPacket encodePacket(Object data) {
+        if (!ChannelMetrics.isEnabled()) {
+            return encode(data);
+        }
+        long start = System.nanoTime();
+        FMLProxyPacket packet = encode(data);
+        this.metrics.recordEncode(System.nanoTime() - start);
+        return packet;
     }
 
     final void invalidate() {
@@ -31,7 +31,10 @@
 
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.MapMaker;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.entity.EntityPlayerSP;
 import net.minecraft.network.NetHandlerPlayServer;
@@ -40,6 +43,7 @@
 import net.minecraft.server.management.PlayerList;
 import net.minecraftforge.fml.common.eventhandler.EventPriority;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
 import net.minecraftforge.fml.common.network.FMLNetworkEvent.CustomPacketRegistrationEvent;
 import net.minecraftforge.fml.common.network.NetworkRegistry;
 import net.minecraftforge.fml.relauncher.Side;
@@ -57,13 +61,28 @@
 import org.spongepowered.common.network.SpongeNetworkManager;
 import org.spongepowered.mod.interfaces.IMixinNetPlayHandler;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
 
 public class SpongeModNetworkManager extends SpongeNetworkManager {
 
     private final Map<String, SpongeModChannelBinding> channelMap = Maps.newHashMap();
+    // Server side connections by the channels they have registered
+    private final Map<String, Set<NetHandlerPlayServer>> channelSubscribers = Maps.newConcurrentMap();
+    // Channels holding batched messages until the end of the tick, only touched on the main thread
+    private final Set<SpongeIndexedMessageChannel> pendingBatches = Sets.newLinkedHashSet();
+
+    // Shared pool for message handlers registered with HandlerExecution.WORKER, created on first use
+    @Nullable private volatile ExecutorService handlerWorkers;
 
     @SubscribeEvent(priority = EventPriority.HIGHEST)
     public void onCustomPacketRegistration(CustomPacketRegistrationEvent<?> event) {
@@ -76,17 +95,75 @@ public void onCustomPacketRegistration(CustomPacketRegistrationEvent<?> event) {
 
         if (event.getOperation().equals("REGISTER")) {
             channels.addAll(event.getRegistrations());
+            if (event.getHandler() instanceof NetHandlerPlayServer) {
+                for (String channel : event.getRegistrations()) {
+                    this.channelSubscribers.computeIfAbsent(channel, key -> Collections.newSetFromMap(new MapMaker().weakKeys().makeMap()))
+                            .add((NetHandlerPlayServer) event.getHandler());
+                }
+            }
             for (String channel : event.getRegistrations()) {
                 SpongeImpl.postEvent(SpongeEventFactory.createChannelRegistrationEventRegister(cause, channel));
             }
         } else if (event.getOperation().equals("UNREGISTER")) {
             channels.removeAll(event.getRegistrations());
+            if (event.getHandler() instanceof NetHandlerPlayServer) {
+                for (String channel : event.getRegistrations()) {
+                    Set<NetHandlerPlayServer> subscribers = this.channelSubscribers.get(channel);
+                    if (subscribers != null) {
+                        subscribers.remove(event.getHandler());
+                    }
+                }
+            }
             for (String channel : event.getRegistrations()) {
                 SpongeImpl.postEvent(SpongeEventFactory.createChannelRegistrationEventUnregister(cause, channel));
             }
         }
     }
 
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase == TickEvent.Phase.END && !this.pendingBatches.isEmpty()) {
+            for (SpongeIndexedMessageChannel channel : this.pendingBatches) {
+                channel.flushBatches();
+            }
+            this.pendingBatches.clear();
+        }
+    }
+
+    void queueBatches(SpongeIndexedMessageChannel channel) {
+        this.pendingBatches.add(channel);
+    }
+
+    Executor getHandlerWorkers() {
+        ExecutorService workers = this.handlerWorkers;
+        if (workers == null) {
+            synchronized (this) {
+                workers = this.handlerWorkers;
+                if (workers == null) {
+                    int threads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+                    ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                            new ArrayBlockingQueue<>(1024), new ThreadFactoryBuilder().setNameFormat("Sponge Message Handler #%d").setDaemon(true)
+                            .build());
+                    executor.allowCoreThreadTimeOut(true);
+                    this.handlerWorkers = workers = executor;
+                }
+            }
+        }
+        return workers;
+    }
+
+    /**
+     * Gets the server side connections that have registered the given
+     * channel. Connections are held weakly and may already be closed.
+     *
+     * @param channel The channel name
+     * @return The subscribed connections
+     */
+    Set<NetHandlerPlayServer> getSubscribers(String channel) {
+        Set<NetHandlerPlayServer> subscribers = this.channelSubscribers.get(channel);
+        return subscribers == null ? Collections.emptySet() : subscribers;
+    }
+
     protected static CPacketCustomPayload getRegPacketClient(String channelName) {
         return new CPacketCustomPayload("REGISTER", new PacketBuffer(wrappedBuffer(channelName.getBytes(Charsets.UTF_8))));
     }
@@ -26,10 +26,11 @@
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static io.netty.buffer.Unpooled.buffer;
 
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandler;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.common.network.internal.FMLProxyPacket;
@@ -49,7 +50,11 @@
 
 public class SpongeRawChannel extends SpongeModChannelBinding implements ChannelBinding.RawDataChannel {
 
+    private static final int MAX_INITIAL_CAPACITY = 32 * 1024;
+
     private final EnumMap<Platform.Type, Set<RawDataListener>> listeners = Maps.newEnumMap(Platform.Type.class);
+    // Payloads on a channel tend to be the same size, new buffers start at the last size seen
+    private volatile int lastPayloadSize = 256;
 
     public SpongeRawChannel(ChannelRegistrar registrar, String channelName, PluginContainer owner) {
         super(registrar, channelName, owner);
@@ -84,20 +89,34 @@ public void removeListener(RawDataListener listener) {
     }
 
     void handlePacket(FMLProxyPacket msg, RemoteConnection con) {
-        ChannelBuf payload = SpongeNetworkManager.toChannelBuf(msg.payload());
+        if (ChannelMetrics.isEnabled()) {
+            this.metrics.recordInbound(ChannelMetrics.getPlayerId(con), msg.payload().readableBytes());
+        }
         Platform.Type side = msg.getTarget().isClient() ? Platform.Type.CLIENT : Platform.Type.SERVER;
         Set<RawDataListener> listeners = this.listeners.get(side);
+        if (listeners.isEmpty()) {
+            return;
+        }
+        ByteBuf payload = msg.payload();
+        // Every listener gets a read-only view of the payload with its own
+        // reader index, however many listeners there are
         for (RawDataListener listener : listeners) {
-            listener.handlePayload(payload, con, side);
+            listener.handlePayload(SpongeNetworkManager.toChannelBuf(Unpooled.unmodifiableBuffer(payload)), con, side);
         }
     }
 
     private FMLProxyPacket createPacket(Consumer<ChannelBuf> payloadConsumer) {
-        PacketBuffer payload = new PacketBuffer(buffer());
+        PacketBuffer payload = new PacketBuffer(Unpooled.buffer(this.lastPayloadSize));
         checkNotNull(payloadConsumer, "payloadConsumer").accept((ChannelBuf) payload);
+        this.lastPayloadSize = Math.max(16, Math.min(payload.writerIndex(), MAX_INITIAL_CAPACITY));
         return new FMLProxyPacket(payload, getName());
     }
 
+    @Override
+    protected FMLProxyPacket encode(Object data) {
+        return (FMLProxyPacket) data;
+    }
+
     @Override
     public void sendTo(Player player, Consumer<ChannelBuf> payload) {
         super.sendTo(player, createPacket(payload));
@@ -110,6 +129,9 @@ public void sendToServer(Consumer<ChannelBuf> payload) {
 
     @Override
     public void sendToAll(Consumer<ChannelBuf> payload) {
+        if (!hasSubscribers()) {
+            return;
+        }
         super.sendToAll(createPacket(payload));
     }
 }
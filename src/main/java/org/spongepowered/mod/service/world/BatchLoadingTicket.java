@@ -0,0 +1,69 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.service.world;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.world.ChunkTicketManager;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * A {@link ChunkTicketManager.LoadingTicket} that can force and unforce many
+ * chunks at once. Every ticket created by the chunk ticket manager of
+ * SpongeForge is one, see {@link #of(ChunkTicketManager.LoadingTicket)}.
+ *
+ * <p>This is a SpongeForge extension and not part of the SpongeAPI. Plugins
+ * using it only run on SpongeForge.</p>
+ */
+public interface BatchLoadingTicket extends ChunkTicketManager.LoadingTicket {
+
+    /**
+     * Gets the given ticket as a batch loading ticket, if it is one.
+     *
+     * @param ticket The ticket
+     * @return The batch loading ticket, if available
+     */
+    static Optional<BatchLoadingTicket> of(ChunkTicketManager.LoadingTicket ticket) {
+        return ticket instanceof BatchLoadingTicket ? Optional.of((BatchLoadingTicket) ticket) : Optional.empty();
+    }
+
+    /**
+     * Forces all given chunks. The chunks that exist on disk are then loaded
+     * asynchronously region by region, so region files are read one after
+     * another.
+     *
+     * @param chunks The chunks to force
+     */
+    void forceChunks(Collection<Vector3i> chunks);
+
+    /**
+     * Unforces all given chunks.
+     *
+     * @param chunks The chunks to unforce
+     */
+    void unforceChunks(Collection<Vector3i> chunks);
+
+}
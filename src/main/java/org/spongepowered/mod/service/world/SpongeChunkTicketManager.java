@@ -31,7 +31,10 @@
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.ListMultimap;
+import com.google.common.collect.MapMaker;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.gen.ChunkProviderServer;
 import net.minecraftforge.common.ForgeChunkManager;
 import net.minecraftforge.common.ForgeChunkManager.Ticket;
 import org.spongepowered.api.entity.Entity;
@@ -43,6 +46,8 @@
 import org.spongepowered.common.util.VecHelper;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -52,6 +57,19 @@
 
 public class SpongeChunkTicketManager implements ChunkTicketManager {
 
+    private static final Runnable NO_CALLBACK = () -> { };
+    // Orders chunks by 32x32 region and then row by row, so that forced chunks are loaded region file by region file
+    private static final Comparator<ChunkPos> REGION_ORDER = Comparator.<ChunkPos>comparingInt(pos -> pos.chunkXPos >> 5)
+            .thenComparingInt(pos -> pos.chunkZPos >> 5)
+            .thenComparingInt(pos -> pos.chunkZPos)
+            .thenComparingInt(pos -> pos.chunkXPos);
+
+    // Sponge tickets by the Forge ticket they wrap, so a Forge ticket is not wrapped again while its Sponge ticket is in use
+    private final Map<Ticket, SpongeLoadingTicket> tickets = new MapMaker().weakValues().makeMap();
+    // Sponge views of Forge's persistent chunk maps, keyed by map identity
+    private final Map<ImmutableSetMultimap<ChunkPos, Ticket>, ImmutableSetMultimap<Vector3i, LoadingTicket>> forcedChunks =
+            new MapMaker().weakKeys().makeMap();
+
     @Override
     public void registerCallback(Object plugin, Callback callback) {
         ForgeChunkManager.setForcedChunkLoadingCallback(plugin, new SpongeLoadingCallback(plugin, callback));
@@ -133,18 +151,41 @@ public int getAvailableTickets(UUID player) {
 
     @Override
     public ImmutableSetMultimap<Vector3i, LoadingTicket> getForcedChunks(World world) {
+        // Forge replaces the persistent chunk map of a world whenever a chunk is forced, unforced or released,
+        // so the view only has to be rebuilt when the map instance changes
         ImmutableSetMultimap<ChunkPos, Ticket> forgeForcedChunks =
                 ForgeChunkManager.getPersistentChunksFor((net.minecraft.world.World) world);
+        ImmutableSetMultimap<Vector3i, LoadingTicket> forcedChunks = this.forcedChunks.get(forgeForcedChunks);
+        if (forcedChunks != null) {
+            return forcedChunks;
+        }
+
         ImmutableSetMultimap.Builder<Vector3i, LoadingTicket> spongeForcedChunks = ImmutableSetMultimap.builder();
-        for (Map.Entry<ChunkPos, Ticket> ticketPair : forgeForcedChunks.entries()) {
-            spongeForcedChunks.put(new Vector3i(ticketPair.getKey().chunkXPos, 0, ticketPair.getKey().chunkZPos),
-                    new SpongeLoadingTicket(ticketPair.getValue()));
+        for (Map.Entry<ChunkPos, Collection<Ticket>> ticketPair : forgeForcedChunks.asMap().entrySet()) {
+            Vector3i chunk = new Vector3i(ticketPair.getKey().chunkXPos, 0, ticketPair.getKey().chunkZPos);
+            for (Ticket ticket : ticketPair.getValue()) {
+                spongeForcedChunks.put(chunk, getLoadingTicket(ticket));
+            }
         }
 
-        return spongeForcedChunks.build();
+        forcedChunks = spongeForcedChunks.build();
+        this.forcedChunks.put(forgeForcedChunks, forcedChunks);
+        return forcedChunks;
     }
 
-    private class SpongeLoadingTicket implements ChunkTicketManager.LoadingTicket {
+    /**
+     * Gets the Sponge ticket wrapping the given Forge ticket, creating a
+     * plain {@link SpongeLoadingTicket} if it has not been wrapped yet.
+     */
+    private LoadingTicket getLoadingTicket(Ticket forgeTicket) {
+        LoadingTicket ticket = this.tickets.get(forgeTicket);
+        if (ticket == null) {
+            ticket = new SpongeLoadingTicket(forgeTicket);
+        }
+        return ticket;
+    }
+
+    private class SpongeLoadingTicket implements BatchLoadingTicket {
 
         protected ForgeChunkManager.Ticket forgeTicket;
         private PluginContainer plugin;
@@ -155,6 +196,7 @@ private SpongeLoadingTicket(Ticket ticket) {
             this.forgeTicket = ticket;
             this.plugin = SpongeImpl.getGame().getPluginManager().getPlugin(ticket.getModId()).get();
             this.pluginId = this.plugin.getId();
+            SpongeChunkTicketManager.this.tickets.put(ticket, this);
         }
 
         @Override
@@ -200,11 +242,54 @@ public ImmutableSet<Vector3i> getChunkList() {
         @Override
         public void forceChunk(Vector3i chunk) {
             ForgeChunkManager.forceChunk(this.forgeTicket, VecHelper.toChunkCoordIntPair(chunk));
+            this.chunkList = null;
         }
 
         @Override
         public void unforceChunk(Vector3i chunk) {
             ForgeChunkManager.unforceChunk(this.forgeTicket, VecHelper.toChunkCoordIntPair(chunk));
+            this.chunkList = null;
+        }
+
+        @Override
+        public void forceChunks(Collection<Vector3i> chunks) {
+            Set<ChunkPos> requested = this.forgeTicket.getChunkList();
+            List<ChunkPos> toForce = new ArrayList<>(chunks.size());
+            for (Vector3i chunk : chunks) {
+                ChunkPos pos = VecHelper.toChunkCoordIntPair(chunk);
+                if (!requested.contains(pos)) {
+                    toForce.add(pos);
+                }
+            }
+            toForce.sort(REGION_ORDER);
+            for (ChunkPos pos : toForce) {
+                ForgeChunkManager.forceChunk(this.forgeTicket, pos);
+            }
+            this.chunkList = null;
+
+            // Forcing only keeps chunks from unloading. Queue the loads in region order, as the chunk
+            // I/O executor runs them in the order they were queued. Chunks the ticket dropped again
+            // to stay within its depth are skipped, and chunks that were never generated are left
+            // to be generated once something asks for them.
+            final ChunkProviderServer chunkProvider = ((WorldServer) this.forgeTicket.world).getChunkProvider();
+            requested = this.forgeTicket.getChunkList();
+            for (ChunkPos pos : toForce) {
+                if (requested.contains(pos)) {
+                    chunkProvider.loadChunk(pos.chunkXPos, pos.chunkZPos, NO_CALLBACK);
+                }
+            }
+        }
+
+        @Override
+        public void unforceChunks(Collection<Vector3i> chunks) {
+            Set<ChunkPos> requested = this.forgeTicket.getChunkList();
+            for (Vector3i chunk : chunks) {
+                ChunkPos pos = VecHelper.toChunkCoordIntPair(chunk);
+                if (requested.contains(pos)) {
+                    ForgeChunkManager.unforceChunk(this.forgeTicket, pos);
+                }
+            }
+            this.chunkList = null;
         }
 
         @Override
@@ -215,6 +300,7 @@ public void prioritizeChunk(Vector3i chunk) {
         @Override
         public void release() {
             ForgeChunkManager.releaseTicket(this.forgeTicket);
+            this.chunkList = null;
         }
 
     }
@@ -281,7 +367,7 @@ public void ticketsLoaded(List<Ticket> tickets, net.minecraft.world.World world)
             List<LoadingTicket> loadingTickets = new ArrayList<>();
 
             for (Ticket ticket : tickets) {
-                loadingTickets.add(new SpongeLoadingTicket(ticket));
+                loadingTickets.add(getLoadingTicket(ticket));
             }
 
             this.spongeLoadingCallback.onLoaded(new ImmutableList.Builder<LoadingTicket>().addAll(loadingTickets).build(),
@@ -301,7 +387,7 @@ public SpongeOrderedCallback(Object plugin, Callback callback) {
         public List<Ticket> ticketsLoaded(List<Ticket> tickets, net.minecraft.world.World world, int maxTicketCount) {
             List<LoadingTicket> spongeLoadingTickets = new ArrayList<>();
             for (Ticket ticket : tickets) {
-                spongeLoadingTickets.add(new SpongeLoadingTicket(ticket));
+                spongeLoadingTickets.add(getLoadingTicket(ticket));
             }
 
             OrderedCallback spongeOrderedCallback = (OrderedCallback) this.spongeLoadingCallback;
@@ -0,0 +1,280 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.storage.AnvilChunkLoader;
+import net.minecraft.world.chunk.storage.RegionFileCache;
+import net.minecraft.world.gen.ChunkProviderServer;
+import org.spongepowered.common.SpongeImpl;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads the chunks ahead of fast moving players before they come into view.
+ *
+ * <p>For every player moving faster than a sprint, the chunks within a cone
+ * around their heading, from the edge of their view distance up to a few
+ * seconds of travel further, are read from their region files on a worker
+ * thread, like {@link DimensionInitializer} does for the spawn area. The
+ * chunks are not loaded, so prefetching never generates, populates or saves
+ * a chunk, and the main thread never touches the disk for it. The region
+ * file headers are cached and the chunk data is in the page cache of the
+ * operating system by the time the player chunk map loads them. Prefetching
+ * only runs while no player chunk loads are queued for the world, and at
+ * most {@link #getLoadsPerTick()} reads are started per tick.</p>
+ */
+public final class ChunkPrefetcher {
+
+    private static final ChunkPrefetcher instance = new ChunkPrefetcher();
+
+    // Squared blocks per tick, a sprinting player moves about 0.28
+    private static final double MIN_SPEED_SQ = 0.5 * 0.5;
+    private static final int MAX_IN_FLIGHT = 32;
+    // Chunks read recently in each world, which are not read again until they fall out
+    private static final int MAX_RECENT = 4096;
+
+    private boolean enabled;
+    private double coneHalfAngle = Math.toRadians(30);
+    private int lookaheadTicks = 20 * 3;
+    private int loadsPerTick = 4;
+    @Nullable private ExecutorService worker;
+    // The main thread only touches these
+    private final Map<WorldServer, WorldState> worlds = Maps.newHashMap();
+    private int inFlightCount;
+    private long prefetchedChunks;
+
+    public static ChunkPrefetcher getInstance() {
+        return instance;
+    }
+
+    private ChunkPrefetcher() {
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getConeAngle() {
+        return Math.toDegrees(this.coneHalfAngle * 2);
+    }
+
+    /**
+     * Sets the full angle of the cone around the heading of a player within
+     * which chunks are prefetched.
+     *
+     * @param degrees The angle in degrees
+     */
+    public void setConeAngle(double degrees) {
+        checkArgument(degrees > 0 && degrees < 180, "The cone angle must be between 0 and 180 degrees");
+        this.coneHalfAngle = Math.toRadians(degrees / 2);
+    }
+
+    public int getLookaheadTicks() {
+        return this.lookaheadTicks;
+    }
+
+    public void setLookaheadTicks(int lookaheadTicks) {
+        checkArgument(lookaheadTicks > 0, "lookaheadTicks must be positive");
+        this.lookaheadTicks = lookaheadTicks;
+    }
+
+    public int getLoadsPerTick() {
+        return this.loadsPerTick;
+    }
+
+    public void setLoadsPerTick(int loadsPerTick) {
+        checkArgument(loadsPerTick > 0, "loadsPerTick must be positive");
+        this.loadsPerTick = loadsPerTick;
+    }
+
+    public long getPrefetchedChunks() {
+        return this.prefetchedChunks;
+    }
+
+    /**
+     * Forgets the prefetches in flight in a world that is being unloaded.
+     *
+     * @param world The world
+     */
+    public void onWorldUnload(WorldServer world) {
+        final WorldState state = this.worlds.remove(world);
+        if (state != null) {
+            this.inFlightCount -= state.inFlight.size();
+        }
+    }
+
+    public void tick() {
+        if (!this.enabled || this.inFlightCount >= MAX_IN_FLIGHT) {
+            return;
+        }
+        final int viewDistance = SpongeImpl.getServer().getPlayerList().getViewDistance();
+        for (WorldServer world : SpongeImpl.getServer().worldServers) {
+            if (world.playerEntities.isEmpty() || !(world.getChunkProvider().chunkLoader instanceof AnvilChunkLoader)) {
+                continue;
+            }
+            final PlayerChunkLoadQueue queue = PlayerChunkLoadQueue.find(world);
+            if (queue != null && !queue.isIdle()) {
+                continue;
+            }
+            int budget = this.loadsPerTick;
+            for (EntityPlayer player : world.playerEntities) {
+                if (budget <= 0) {
+                    break;
+                }
+                if (player instanceof EntityPlayerMP) {
+                    budget = prefetch(world, (EntityPlayerMP) player, viewDistance, budget);
+                }
+            }
+        }
+    }
+
+    private int prefetch(WorldServer world, EntityPlayerMP player, int viewDistance, int budget) {
+        final double motionX = player.posX - player.lastTickPosX;
+        final double motionZ = player.posZ - player.lastTickPosZ;
+        final double speedSq = motionX * motionX + motionZ * motionZ;
+        if (speedSq < MIN_SPEED_SQ) {
+            return budget;
+        }
+        final double speed = Math.sqrt(speedSq);
+        final double headingX = motionX / speed;
+        final double headingZ = motionZ / speed;
+        final double coneTan = Math.tan(this.coneHalfAngle);
+        final double start = viewDistance * 16;
+        final double end = start + speed * this.lookaheadTicks;
+        // Nearest chunks first, sampled every chunk along and across the heading
+        for (double distance = start; distance <= end; distance += 16) {
+            final double halfWidth = distance * coneTan;
+            for (double offset = 0; offset <= halfWidth; offset += 16) {
+                budget = prefetch(world, player.posX + headingX * distance - headingZ * offset,
+                        player.posZ + headingZ * distance + headingX * offset, budget);
+                if (offset != 0) {
+                    budget = prefetch(world, player.posX + headingX * distance + headingZ * offset,
+                            player.posZ + headingZ * distance - headingX * offset, budget);
+                }
+                if (budget <= 0 || this.inFlightCount >= MAX_IN_FLIGHT) {
+                    return 0;
+                }
+            }
+        }
+        return budget;
+    }
+
+    private int prefetch(WorldServer world, double x, double z, int budget) {
+        final int chunkX = (int) Math.floor(x) >> 4;
+        final int chunkZ = (int) Math.floor(z) >> 4;
+        final ChunkProviderServer provider = world.getChunkProvider();
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        final WorldState state = this.worlds.computeIfAbsent(world, k -> new WorldState());
+        if (budget <= 0 || state.inFlight.contains(key) || state.recent.contains(key) || provider.getLoadedChunk(chunkX, chunkZ) != null) {
+            return budget;
+        }
+        state.inFlight.add(key);
+        if (state.recent.size() >= MAX_RECENT) {
+            state.recent.removeFirstLong();
+        }
+        state.recent.add(key);
+        this.inFlightCount++;
+        final File worldDirectory = ((AnvilChunkLoader) provider.chunkLoader).chunkSaveLocation;
+        getWorker().execute(() -> {
+            final boolean read = read(worldDirectory, chunkX, chunkZ);
+            SpongeImpl.getServer().addScheduledTask(() -> {
+                if (this.worlds.get(world) != state) {
+                    // The world unloaded in the meantime
+                    return;
+                }
+                state.inFlight.remove(key);
+                this.inFlightCount--;
+                if (read) {
+                    this.prefetchedChunks++;
+                }
+            });
+        });
+        return budget - 1;
+    }
+
+    /**
+     * Reads a chunk from its region file without creating region files that
+     * do not exist.
+     *
+     * @return Whether the chunk exists and was read
+     */
+    private static boolean read(File worldDirectory, int chunkX, int chunkZ) {
+        if (!new File(worldDirectory, "region/r." + (chunkX >> 5) + "." + (chunkZ >> 5) + ".mca").exists()) {
+            return false;
+        }
+        final byte[] buffer = new byte[8192];
+        try (DataInputStream stream = RegionFileCache.getChunkInputStream(worldDirectory, chunkX, chunkZ)) {
+            if (stream == null) {
+                return false;
+            }
+            while (stream.read(buffer) != -1) {
+                // Only reading the chunk from disk
+            }
+            return true;
+        } catch (IOException e) {
+            SpongeImpl.getLogger().debug("Could not prefetch chunk [{}, {}]", chunkX, chunkZ, e);
+            return false;
+        }
+    }
+
+    private ExecutorService getWorker() {
+        if (this.worker == null) {
+            this.worker = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("Sponge Chunk Prefetcher")
+                    .setDaemon(true).build());
+        }
+        return this.worker;
+    }
+
+    private static final class WorldState {
+
+        // Packed positions of the chunks being read
+        final LongSet inFlight = new LongOpenHashSet();
+        final LongLinkedOpenHashSet recent = new LongLinkedOpenHashSet();
+
+    }
+
+}
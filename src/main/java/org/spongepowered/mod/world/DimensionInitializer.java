@@ -0,0 +1,323 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.DimensionType;
+import net.minecraft.world.WorldProvider;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.storage.RegionFileCache;
+import org.spongepowered.api.world.WorldArchetype;
+import org.spongepowered.api.world.storage.WorldProperties;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
+import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.mod.SpongeMod;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.Nullable;
+
+/**
+ * Initializes dimensions without blocking the main thread on disk reads.
+ *
+ * <p>The properties of the dimension are resolved on the main thread, as the
+ * {@link WorldManager} is not thread safe. The region files of the spawn area
+ * are then opened and its chunks read on a worker thread, so their headers
+ * are cached and their data is in the page cache of the operating system.
+ * The world itself is loaded and attached on the main thread once that is
+ * done, and reading the spawn chunks no longer waits on the disk.</p>
+ *
+ * <p>When {@link #setDeferringTransfers deferring transfers} is enabled, a
+ * player transferred into a dimension that is not loaded yet stays where
+ * they are until the dimension was initialized this way, and is only then
+ * transferred. This is off by default, as mods may expect the player to be
+ * in the new dimension as soon as the transfer returns.</p>
+ */
+public final class DimensionInitializer {
+
+    private static final DimensionInitializer instance = new DimensionInitializer();
+
+    // Chunks loaded around the spawn of a world that keeps its spawn loaded, as in MinecraftServer#initialWorldChunkLoad
+    private static final int SPAWN_RADIUS_CHUNKS = 12;
+
+    private final Executor mainThread = runnable -> SpongeImpl.getServer().addScheduledTask(runnable);
+    @Nullable private ExecutorService workers;
+    // The main thread only touches these
+    private final Int2ObjectMap<CompletableFuture<WorldServer>> pending = new Int2ObjectOpenHashMap<>();
+    private final Map<WorldServer, Long> awaitingFirstTick = new WeakHashMap<>();
+    private final Set<EntityPlayerMP> pendingTransfers = Collections.newSetFromMap(new WeakHashMap<>());
+    private boolean deferringTransfers;
+
+    public static DimensionInitializer getInstance() {
+        return instance;
+    }
+
+    private DimensionInitializer() {
+    }
+
+    /**
+     * Initializes a dimension asynchronously. The returned future completes
+     * on the main thread once the world is loaded, or exceptionally if it
+     * could not be.
+     *
+     * @param dim The dimension to load
+     * @return The future of the loaded world
+     */
+    public CompletableFuture<WorldServer> initDimension(int dim) {
+        final MinecraftServer server = SpongeImpl.getServer();
+        if (!server.isCallingFromMinecraftThread()) {
+            return CompletableFuture.supplyAsync(() -> initDimension(dim), this.mainThread).thenCompose(future -> future);
+        }
+
+        final Optional<WorldServer> optWorldServer = WorldManager.getWorldByDimensionId(dim);
+        if (optWorldServer.isPresent()) {
+            return CompletableFuture.completedFuture(optWorldServer.get());
+        }
+        final CompletableFuture<WorldServer> pendingFuture = this.pending.get(dim);
+        if (pendingFuture != null) {
+            return pendingFuture;
+        }
+
+        final long startTime = System.nanoTime();
+        final WorldProperties properties;
+        try {
+            properties = getProperties(dim);
+        } catch (RuntimeException e) {
+            return failed(e);
+        }
+        if (properties == null) {
+            return failed(new IllegalStateException("Dimension id [" + dim + "] could not be initialized!"));
+        }
+        final File worldDirectory = getWorldDirectory(WorldManager.getWorldFolderByDimensionId(dim).orElse(properties.getWorldName()));
+        final CompletableFuture<WorldServer> future = CompletableFuture
+                .runAsync(() -> prepareSpawnArea(worldDirectory, properties), getWorkers())
+                .thenApplyAsync(ignored -> attach(dim, properties, startTime), this.mainThread)
+                .whenCompleteAsync((worldServer, throwable) -> this.pending.remove(dim), this.mainThread);
+        this.pending.put(dim, future);
+        return future;
+    }
+
+    private static CompletableFuture<WorldServer> failed(Throwable throwable) {
+        final CompletableFuture<WorldServer> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    public boolean isDeferringTransfers() {
+        return this.deferringTransfers;
+    }
+
+    public void setDeferringTransfers(boolean deferringTransfers) {
+        this.deferringTransfers = deferringTransfers;
+    }
+
+    /**
+     * Defers the transfer of a player into a dimension that is not loaded
+     * yet until it was initialized asynchronously, if deferring transfers is
+     * enabled. Further transfers of the player are dropped while one is
+     * pending, as portals keep trying to transfer a player standing in them.
+     *
+     * @param player The player being transferred
+     * @param dim The dimension the player is transferred to
+     * @param transfer Repeats the transfer once the dimension is loaded
+     * @return Whether the transfer was deferred, in which case the player
+     *     must not be transferred now
+     */
+    public boolean deferTransfer(EntityPlayerMP player, int dim, Runnable transfer) {
+        if (!this.deferringTransfers || !SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+            return false;
+        }
+        if (this.pendingTransfers.contains(player)) {
+            return true;
+        }
+        if (WorldManager.getWorldByDimensionId(dim).isPresent()) {
+            return false;
+        }
+        final CompletableFuture<WorldServer> future = initDimension(dim);
+        if (future.isDone()) {
+            // Failed right away, the transfer falls back as it always did
+            return false;
+        }
+        this.pendingTransfers.add(player);
+        // Completes on the main thread
+        future.whenComplete((worldServer, throwable) -> {
+            this.pendingTransfers.remove(player);
+            if (throwable != null) {
+                SpongeImpl.getLogger().warn("Could not initialize DIM{} asynchronously, transferring {} synchronously", dim, player.getName(),
+                        throwable);
+            }
+            if (!player.isDead && player.connection.netManager.isChannelOpen()) {
+                transfer.run();
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Gets the properties of the world of a dimension, creating them if the
+     * dimension has none yet. Must be called from the main thread.
+     *
+     * @param dim The dimension
+     * @return The properties, or null if the dimension is not registered or
+     *     its world is disabled
+     */
+    @Nullable
+    public static WorldProperties getProperties(int dim) {
+        if (dim == 0) {
+            throw new RuntimeException("Attempt made to initialize overworld!");
+        }
+
+        WorldManager.getWorldByDimensionId(0).orElseThrow(() -> new RuntimeException("Attempt made to initialize "
+                + "dimension before overworld is loaded!"));
+
+        DimensionType dimensionType = WorldManager.getDimensionType(dim).orElse(null);
+        if (dimensionType == null) {
+            SpongeImpl.getLogger().warn("Attempt made to initialize dimension id {} which isn't registered!"
+                    + ", falling back to overworld.", dim);
+            return null;
+        }
+
+        final WorldProvider provider = dimensionType.createDimension();
+        // make sure to set the dimension id to avoid getting a null save folder
+        provider.setDimension(dim);
+        String worldFolder = WorldManager.getWorldFolderByDimensionId(dim).orElse(provider.getSaveFolder());
+        WorldProperties properties = WorldManager.getWorldProperties(worldFolder).orElse(null);
+        if (properties == null) {
+            final WorldArchetype.Builder builder = WorldArchetype.builder()
+                    .dimension((org.spongepowered.api.world.DimensionType)(Object) dimensionType)
+                    .keepsSpawnLoaded(dimensionType.shouldLoadSpawn());
+            String modId = SpongeMod.instance.getModIdFromClass(provider.getClass());
+            final WorldArchetype archetype = builder.build(modId + ":" + dimensionType.getName().toLowerCase(), dimensionType.getName());
+            properties = WorldManager.createWorldProperties(worldFolder, archetype);
+            ((IMixinWorldInfo) properties).setDimensionId(dim);
+        }
+        if (!properties.isEnabled()) {
+            SpongeImpl.getLogger().warn("World [{}] (DIM{}) is disabled. World will not be loaded...", worldFolder,
+                    dim);
+            return null;
+        }
+        return properties;
+    }
+
+    @Nullable
+    private static File getWorldDirectory(String worldFolder) {
+        final Optional<Path> optSavesDirectory = WorldManager.getCurrentSavesDirectory();
+        return optSavesDirectory.isPresent() ? optSavesDirectory.get().resolve(worldFolder).toFile() : null;
+    }
+
+    /**
+     * Opens the region files of the spawn area and reads its chunks, to have
+     * them cached before the world loads them. Region files that do not
+     * exist are not created.
+     */
+    private static void prepareSpawnArea(@Nullable File worldDirectory, WorldProperties properties) {
+        if (worldDirectory == null || !properties.doesKeepSpawnLoaded()) {
+            return;
+        }
+        final File regionDirectory = new File(worldDirectory, "region");
+        if (!regionDirectory.isDirectory()) {
+            return;
+        }
+        final Vector3i spawn = properties.getSpawnPosition();
+        final int spawnX = spawn.getX() >> 4;
+        final int spawnZ = spawn.getZ() >> 4;
+        final byte[] buffer = new byte[8192];
+        for (int x = spawnX - SPAWN_RADIUS_CHUNKS; x <= spawnX + SPAWN_RADIUS_CHUNKS; x++) {
+            for (int z = spawnZ - SPAWN_RADIUS_CHUNKS; z <= spawnZ + SPAWN_RADIUS_CHUNKS; z++) {
+                if (!new File(regionDirectory, "r." + (x >> 5) + "." + (z >> 5) + ".mca").exists()) {
+                    continue;
+                }
+                try (DataInputStream stream = RegionFileCache.getChunkInputStream(worldDirectory, x, z)) {
+                    if (stream != null) {
+                        while (stream.read(buffer) != -1) {
+                            // Only reading the chunk from disk
+                        }
+                    }
+                } catch (IOException e) {
+                    SpongeImpl.getLogger().debug("Could not read chunk [{}, {}] of world [{}] ahead of its load", x, z,
+                            properties.getWorldName(), e);
+                }
+            }
+        }
+    }
+
+    private WorldServer attach(int dim, WorldProperties properties, long startTime) {
+        final Optional<WorldServer> optWorldServer = WorldManager.getWorldByDimensionId(dim);
+        if (optWorldServer.isPresent()) {
+            // Loaded synchronously in the meantime
+            return optWorldServer.get();
+        }
+        final WorldServer worldServer = WorldManager.loadWorld(properties)
+                .orElseThrow(() -> new IllegalStateException("Could not load world [" + properties.getWorldName() + "]!"));
+        this.awaitingFirstTick.put(worldServer, startTime);
+        return worldServer;
+    }
+
+    /**
+     * Reports the time the dimensions initialized asynchronously took from
+     * being requested to their first tick.
+     */
+    public void tick() {
+        if (this.awaitingFirstTick.isEmpty()) {
+            return;
+        }
+        final long now = System.nanoTime();
+        for (Iterator<Map.Entry<WorldServer, Long>> it = this.awaitingFirstTick.entrySet().iterator(); it.hasNext(); ) {
+            final Map.Entry<WorldServer, Long> entry = it.next();
+            final WorldServer worldServer = entry.getKey();
+            SpongeImpl.getLogger().info("World [{}] (DIM{}) ticked {} ms after its asynchronous initialization was requested",
+                    worldServer.getWorldInfo().getWorldName(), worldServer.provider.getDimension(), (now - entry.getValue()) / 1000000);
+            it.remove();
+        }
+    }
+
+    private ExecutorService getWorkers() {
+        if (this.workers == null) {
+            this.workers = Executors.newFixedThreadPool(2, new ThreadFactoryBuilder().setNameFormat("Sponge Dimension Initializer #%d")
+                    .setDaemon(true).build());
+        }
+        return this.workers;
+    }
+
+}
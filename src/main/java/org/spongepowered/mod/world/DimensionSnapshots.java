@@ -0,0 +1,126 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.common.DimensionManager;
+import org.spongepowered.common.world.WorldManager;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * Snapshots of the loaded worlds and the dimension ids of the
+ * {@link WorldManager}, as returned by Forge's {@link DimensionManager}.
+ *
+ * <p>The {@link WorldManager} bumps a modification count whenever it
+ * registers or unregisters a dimension, or adds, unloads or reorders a world,
+ * and the snapshots are only rebuilt once that count changed.</p>
+ *
+ * <p>The arrays are returned as they are cached, without copying, so that
+ * the every-tick callers of {@link DimensionManager} do not allocate. They
+ * are shared between all callers and must not be modified.</p>
+ */
+public final class DimensionSnapshots {
+
+    private static final AtomicInteger modCount = new AtomicInteger();
+    @Nullable private static volatile Snapshot snapshot;
+
+    private DimensionSnapshots() {
+    }
+
+    /**
+     * Marks the snapshots as outdated.
+     */
+    public static void invalidate() {
+        modCount.incrementAndGet();
+    }
+
+    /**
+     * Gets the loaded worlds.
+     *
+     * @return The shared snapshot of the worlds, which must not be modified
+     */
+    public static WorldServer[] getWorlds() {
+        return current().worlds;
+    }
+
+    /**
+     * Gets the dimension ids of the loaded worlds.
+     *
+     * @return The shared snapshot of the ids, which must not be modified
+     */
+    public static Integer[] getLoadedDimensionIds() {
+        return current().loadedIds;
+    }
+
+    /**
+     * Gets the registered dimension ids.
+     *
+     * @return The shared snapshot of the ids, which must not be modified
+     */
+    public static Integer[] getRegisteredDimensionIds() {
+        return current().registeredIds;
+    }
+
+    private static Snapshot current() {
+        Snapshot snapshot = DimensionSnapshots.snapshot;
+        final Collection<WorldServer> worlds = WorldManager.getWorlds();
+        // The world count is checked as well, in case a world is added without going through the WorldManager methods
+        if (snapshot == null || snapshot.modCount != modCount.get() || snapshot.worlds.length != worlds.size()) {
+            snapshot = new Snapshot(modCount.get(), worlds.toArray(new WorldServer[worlds.size()]),
+                    toForgeDimensionIds(WorldManager.getLoadedWorldDimensionIds()),
+                    toForgeDimensionIds(WorldManager.getRegisteredDimensionIds()));
+            DimensionSnapshots.snapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    private static Integer[] toForgeDimensionIds(int[] spongeDimIds) {
+        Integer[] forgeDimIds = new Integer[spongeDimIds.length];
+        for (int i = 0; i < spongeDimIds.length; i++) {
+            forgeDimIds[i] = spongeDimIds[i];
+        }
+        return forgeDimIds;
+    }
+
+    private static final class Snapshot {
+
+        final int modCount;
+        final WorldServer[] worlds;
+        final Integer[] loadedIds;
+        final Integer[] registeredIds;
+
+        Snapshot(int modCount, WorldServer[] worlds, Integer[] loadedIds, Integer[] registeredIds) {
+            this.modCount = modCount;
+            this.worlds = worlds;
+            this.loadedIds = loadedIds;
+            this.registeredIds = registeredIds;
+        }
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import com.google.common.collect.MapMaker;
+import it.unimi.dsi.fastutil.longs.Long2ByteMap;
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps repeated neighbor notification events of a block within a tick from
+ * reaching plugins.
+ *
+ * <p>Once the notification of a set of sides of a position went through
+ * the event bridge uncancelled, further notifications of the same sides
+ * with an equal cause root during that tick skip the Sponge event
+ * listeners. A notification with a different root, such as another player
+ * or piston, always reaches them, so protection plugins see every cause. Forge mod listeners
+ * still receive every notification, and the block updates themselves are
+ * never skipped or reordered. Coalescing is enabled per world at runtime
+ * and is off by default.</p>
+ */
+public final class NeighborNotifyCoalescer {
+
+    // Only holds the worlds coalescing is enabled in
+    private static final Map<World, NeighborNotifyCoalescer> worlds = new MapMaker().weakKeys().makeMap();
+
+    private final Long2ByteMap deliveredSides = new Long2ByteOpenHashMap();
+    // The cause root the sides of each position were delivered for
+    private final Long2ObjectMap<Object> deliveredRoots = new Long2ObjectOpenHashMap<>();
+    private long tick = -1;
+
+    private NeighborNotifyCoalescer() {
+    }
+
+    public static boolean isEnabled(World world) {
+        return worlds.containsKey(world);
+    }
+
+    public static void setEnabled(World world, boolean enabled) {
+        if (enabled) {
+            worlds.putIfAbsent(world, new NeighborNotifyCoalescer());
+        } else {
+            worlds.remove(world);
+        }
+    }
+
+    /**
+     * Gets whether a notification of the given sides of a position was
+     * already delivered this tick for the same cause root, in which case
+     * plugins can skip its event.
+     *
+     * @param world The world
+     * @param pos The notifying position
+     * @param sides The notified sides
+     * @param causeRoot The root of the cause of the notification
+     * @return Whether plugins can skip the event
+     */
+    public static boolean isDelivered(World world, BlockPos pos, Set<EnumFacing> sides, Object causeRoot) {
+        if (worlds.isEmpty()) {
+            return false;
+        }
+        final NeighborNotifyCoalescer coalescer = worlds.get(world);
+        if (coalescer == null || coalescer.tick != world.getTotalWorldTime()) {
+            return false;
+        }
+        final long key = pos.toLong();
+        final byte mask = toMask(sides);
+        return (coalescer.deliveredSides.get(key) & mask) == mask && causeRoot.equals(coalescer.deliveredRoots.get(key));
+    }
+
+    /**
+     * Records that the notification of the given sides of a position went
+     * through the event listeners uncancelled.
+     *
+     * @param world The world
+     * @param pos The notifying position
+     * @param sides The sides that were notified
+     * @param causeRoot The root of the cause of the notification
+     */
+    public static void markDelivered(World world, BlockPos pos, Set<EnumFacing> sides, Object causeRoot) {
+        if (worlds.isEmpty()) {
+            return;
+        }
+        final NeighborNotifyCoalescer coalescer = worlds.get(world);
+        if (coalescer == null) {
+            return;
+        }
+        final long tick = world.getTotalWorldTime();
+        if (coalescer.tick != tick) {
+            coalescer.deliveredSides.clear();
+            coalescer.deliveredRoots.clear();
+            coalescer.tick = tick;
+        }
+        final long key = pos.toLong();
+        if (causeRoot.equals(coalescer.deliveredRoots.get(key))) {
+            coalescer.deliveredSides.put(key, (byte) (coalescer.deliveredSides.get(key) | toMask(sides)));
+        } else {
+            // Only the latest cause of a position is remembered
+            coalescer.deliveredRoots.put(key, causeRoot);
+            coalescer.deliveredSides.put(key, toMask(sides));
+        }
+    }
+
+    private static byte toMask(Set<EnumFacing> sides) {
+        int mask = 0;
+        for (EnumFacing side : sides) {
+            mask |= 1 << side.ordinal();
+        }
+        return (byte) mask;
+    }
+
+}
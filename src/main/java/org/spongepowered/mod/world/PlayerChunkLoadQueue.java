@@ -0,0 +1,255 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.mod.interfaces.IMixinPlayerChunkMapEntry;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * Orders the asynchronous chunk loads requested for players.
+ *
+ * <p>Forge's chunk I/O executor completes loads in submission order, so
+ * requests are held here and only a few are handed to it at a time, nearest
+ * to a watching player first. A request is handed over right away while
+ * fewer loads than the {@link #setMaxInFlight limit} are in flight, and
+ * every completed load frees its slot for the next request immediately.
+ * Requests of entries no player watches anymore are dropped before they
+ * reach the disk.</p>
+ */
+public final class PlayerChunkLoadQueue {
+
+    // Loads handed to the chunk I/O executor per world at any time, main thread only
+    private static int maxInFlight = 16;
+    // Queues are removed when their world unloads, as their requests reference it
+    private static final Map<WorldServer, PlayerChunkLoadQueue> queues = Maps.newConcurrentMap();
+
+    // Pending and in flight requests by entry, main thread only
+    private final Map<PlayerChunkMapEntry, Request> pending = Maps.newLinkedHashMap();
+    private final Map<PlayerChunkMapEntry, Request> inFlight = Maps.newHashMap();
+    // Pending requests by distance, sorted again each tick or once used up
+    private final List<Request> order = Lists.newArrayList();
+    private int orderIndex;
+    private boolean dispatching;
+    private long submittedLoads;
+    private long totalWaitNanos;
+    private long cancelledLoads;
+
+    private PlayerChunkLoadQueue() {
+    }
+
+    public static PlayerChunkLoadQueue get(WorldServer world) {
+        return queues.computeIfAbsent(world, key -> new PlayerChunkLoadQueue());
+    }
+
+    /**
+     * Gets the queue of a world without creating one.
+     *
+     * @param world The world
+     * @return The queue, or null if no chunk loads were queued in the world
+     */
+    @Nullable
+    public static PlayerChunkLoadQueue find(WorldServer world) {
+        return queues.get(world);
+    }
+
+    /**
+     * Removes the queue of a world that is being unloaded, dropping the
+     * requests it still holds.
+     *
+     * @param world The world
+     */
+    public static void remove(WorldServer world) {
+        queues.remove(world);
+    }
+
+    public static int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Sets how many loads of a world may be handed to the chunk I/O executor
+     * at the same time.
+     *
+     * @param maxInFlight The limit, at least 1
+     */
+    public static void setMaxInFlight(int maxInFlight) {
+        checkArgument(maxInFlight > 0, "The limit must be positive");
+        PlayerChunkLoadQueue.maxInFlight = maxInFlight;
+        tickAll();
+    }
+
+    public static Map<WorldServer, PlayerChunkLoadQueue> getQueues() {
+        return ImmutableMap.copyOf(queues);
+    }
+
+    /**
+     * Drops the loads Forge cancelled and hands the queued loads of every
+     * world to the chunk I/O executor, ordered by the current distances of
+     * the players.
+     */
+    public static void tickAll() {
+        for (PlayerChunkLoadQueue queue : queues.values()) {
+            queue.tick();
+        }
+    }
+
+    /**
+     * Queues an asynchronous load of the chunk of the given entry, unless one
+     * is already queued.
+     *
+     * @param entry The entry
+     * @param callback The callback to run once the load completed
+     */
+    public void request(PlayerChunkMapEntry entry, Runnable callback) {
+        if (!this.pending.containsKey(entry) && !this.inFlight.containsKey(entry)) {
+            final Request request = new Request(entry, callback);
+            if (this.pending.isEmpty() && this.inFlight.size() < maxInFlight) {
+                submit(request);
+            } else {
+                this.pending.put(entry, request);
+            }
+        }
+    }
+
+    private void tick() {
+        // Forge drops the loads of entries that lost their players without running their callback
+        this.inFlight.values().removeIf(request -> !((IMixinPlayerChunkMapEntry) request.entry).hasPlayers());
+        // The players moved, so sort the pending requests again
+        this.orderIndex = this.order.size();
+        dispatch();
+    }
+
+    private void dispatch() {
+        // Loads completing synchronously free their slot from within the loop below
+        if (this.dispatching) {
+            return;
+        }
+        this.dispatching = true;
+        try {
+            while (!this.pending.isEmpty() && this.inFlight.size() < maxInFlight) {
+                if (this.orderIndex >= this.order.size()) {
+                    sortPending();
+                    continue;
+                }
+                final Request request = this.order.get(this.orderIndex++);
+                if (this.pending.remove(request.entry, request)) {
+                    submit(request);
+                }
+            }
+        } finally {
+            this.dispatching = false;
+        }
+    }
+
+    private void sortPending() {
+        this.order.clear();
+        this.orderIndex = 0;
+        final Iterator<Request> it = this.pending.values().iterator();
+        while (it.hasNext()) {
+            Request request = it.next();
+            if (!((IMixinPlayerChunkMapEntry) request.entry).hasPlayers()) {
+                it.remove();
+                this.cancelledLoads++;
+                continue;
+            }
+            request.distance = request.entry.getClosestPlayerDistance();
+            this.order.add(request);
+        }
+        this.order.sort(Comparator.comparingDouble(request -> request.distance));
+    }
+
+    private void submit(Request request) {
+        this.submittedLoads++;
+        this.totalWaitNanos += System.nanoTime() - request.queuedAt;
+        this.inFlight.put(request.entry, request);
+        // Runs the callback right away if the chunk can't be loaded asynchronously
+        final WorldServer world = ((IMixinPlayerChunkMapEntry) request.entry).getWorldServer();
+        world.getChunkProvider().loadChunk(request.entry.pos.chunkXPos, request.entry.pos.chunkZPos, () -> onLoaded(request));
+    }
+
+    private void onLoaded(Request request) {
+        this.inFlight.remove(request.entry, request);
+        request.callback.run();
+        dispatch();
+    }
+
+    /**
+     * Gets whether no player chunk loads are waiting or in flight.
+     *
+     * @return Whether the queue is idle
+     */
+    public boolean isIdle() {
+        return this.pending.isEmpty() && this.inFlight.isEmpty();
+    }
+
+    public int getQueueDepth() {
+        return this.pending.size();
+    }
+
+    public int getInFlight() {
+        return this.inFlight.size();
+    }
+
+    public long getCancelledLoads() {
+        return this.cancelledLoads;
+    }
+
+    /**
+     * Gets the average time requests waited in this queue before being handed
+     * to the chunk I/O executor.
+     *
+     * @return The average wait, in milliseconds
+     */
+    public double getAverageWaitMillis() {
+        return this.submittedLoads == 0 ? 0 : this.totalWaitNanos / 1e6 / this.submittedLoads;
+    }
+
+    private static final class Request {
+
+        final PlayerChunkMapEntry entry;
+        final Runnable callback;
+        final long queuedAt = System.nanoTime();
+        double distance;
+
+        Request(PlayerChunkMapEntry entry, Runnable callback) {
+            this.entry = entry;
+            this.callback = callback;
+        }
+    }
+
+}
@@ -0,0 +1,225 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Sets;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reports unloaded worlds that are still not garbage collected.
+ *
+ * <p>Every world that unloads is tracked through a phantom reference. A
+ * daemon thread waits for the references to be enqueued, and warns about the
+ * worlds still reachable after a number of collections of the old
+ * generation, along with an estimate of the memory they retain. Nothing but
+ * registering the reference happens on the main thread.</p>
+ */
+public final class WorldLeakDetector {
+
+    private static final WorldLeakDetector instance = new WorldLeakDetector();
+
+    private static final long POLL_INTERVAL_MILLIS = 10 * 1000;
+    // Rough footprints of a loaded chunk with its block storage and light, of an entity and of a tile entity
+    private static final long ESTIMATED_CHUNK_BYTES = 64 * 1024;
+    private static final long ESTIMATED_ENTITY_BYTES = 1024;
+    private static final long ESTIMATED_TILE_ENTITY_BYTES = 512;
+
+    private final ReferenceQueue<WorldServer> queue = new ReferenceQueue<>();
+    private final Set<UnloadedWorld> unloadedWorlds = Sets.newConcurrentHashSet();
+    private final List<GarbageCollectorMXBean> oldGenerationCollectors = findOldGenerationCollectors();
+    private volatile int gcCycles = 3;
+    private boolean started;
+
+    public static WorldLeakDetector getInstance() {
+        return instance;
+    }
+
+    private WorldLeakDetector() {
+    }
+
+    public int getGcCycles() {
+        return this.gcCycles;
+    }
+
+    /**
+     * Sets the number of old generation collections an unloaded world may
+     * survive before it is reported as leaked.
+     *
+     * @param gcCycles The number of collections
+     */
+    public void setGcCycles(int gcCycles) {
+        checkArgument(gcCycles > 0, "gcCycles must be positive");
+        this.gcCycles = gcCycles;
+    }
+
+    /**
+     * Gets the unloaded worlds that were not collected yet.
+     *
+     * @return The unloaded worlds
+     */
+    public List<UnloadedWorld> getUnloadedWorlds() {
+        return ImmutableList.copyOf(this.unloadedWorlds);
+    }
+
+    /**
+     * Starts tracking a world that is being unloaded.
+     *
+     * @param worldServer The world
+     */
+    public synchronized void track(WorldServer worldServer) {
+        this.unloadedWorlds.add(new UnloadedWorld(worldServer, this.queue, getOldGenerationCollections()));
+        if (!this.started) {
+            final Thread thread = new Thread(this::run, "Sponge World Leak Detector");
+            thread.setDaemon(true);
+            thread.start();
+            this.started = true;
+        }
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Reference<? extends WorldServer> reference = this.queue.remove(POLL_INTERVAL_MILLIS);
+                while (reference != null) {
+                    this.unloadedWorlds.remove(reference);
+                    reference = this.queue.poll();
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+            report();
+        }
+    }
+
+    private void report() {
+        final long collections = getOldGenerationCollections();
+        final int gcCycles = this.gcCycles;
+        for (UnloadedWorld world : this.unloadedWorlds) {
+            final long survived = collections - world.collectionsAtUnload;
+            if (survived >= gcCycles && survived - world.lastReport >= gcCycles) {
+                world.lastReport = survived;
+                SpongeImpl.getLogger().warn("World [{}] (DIM{}) (HASH: {}) may have leaked. It was not collected after [{}] garbage "
+                        + "collections since it unloaded, and retains an estimated {} KiB ({} chunks, {} entities, {} tile entities).",
+                        world.name, world.dimensionId, world.identityHash, survived, world.getEstimatedBytes() / 1024, world.loadedChunks,
+                        world.entities, world.tileEntities);
+            }
+        }
+    }
+
+    private long getOldGenerationCollections() {
+        long collections = 0;
+        for (GarbageCollectorMXBean collector : this.oldGenerationCollectors) {
+            collections += Math.max(0, collector.getCollectionCount());
+        }
+        return collections;
+    }
+
+    /**
+     * Finds the collectors of the old generation. Young generation collectors
+     * only manage the eden and survivor spaces, while the old generation ones
+     * manage every heap pool, so the collectors managing the most pools are
+     * picked.
+     */
+    private static List<GarbageCollectorMXBean> findOldGenerationCollectors() {
+        final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        int maxPools = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            maxPools = Math.max(maxPools, collector.getMemoryPoolNames().length);
+        }
+        final ImmutableList.Builder<GarbageCollectorMXBean> builder = ImmutableList.builder();
+        for (GarbageCollectorMXBean collector : collectors) {
+            if (collector.getMemoryPoolNames().length == maxPools) {
+                builder.add(collector);
+            }
+        }
+        return builder.build();
+    }
+
+    public static final class UnloadedWorld extends PhantomReference<WorldServer> {
+
+        final String name;
+        final int dimensionId;
+        final int identityHash;
+        final long collectionsAtUnload;
+        final int loadedChunks;
+        final int entities;
+        final int tileEntities;
+        long lastReport;
+
+        UnloadedWorld(WorldServer worldServer, ReferenceQueue<WorldServer> queue, long collectionsAtUnload) {
+            super(worldServer, queue);
+            this.name = worldServer.getWorldInfo().getWorldName();
+            this.dimensionId = ((IMixinWorldServer) worldServer).getDimensionId();
+            this.identityHash = System.identityHashCode(worldServer);
+            this.collectionsAtUnload = collectionsAtUnload;
+            this.loadedChunks = worldServer.getChunkProvider().getLoadedChunkCount();
+            this.entities = worldServer.loadedEntityList.size();
+            this.tileEntities = worldServer.loadedTileEntityList.size();
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public int getDimensionId() {
+            return this.dimensionId;
+        }
+
+        /**
+         * Gets the number of old generation collections the world survived
+         * since it unloaded.
+         *
+         * @return The number of collections
+         */
+        public long getSurvivedCollections() {
+            return getInstance().getOldGenerationCollections() - this.collectionsAtUnload;
+        }
+
+        /**
+         * Gets a rough estimate of the memory retained by the world, based on
+         * what it had loaded when it unloaded.
+         *
+         * @return The estimated size in bytes
+         */
+        public long getEstimatedBytes() {
+            return this.loadedChunks * ESTIMATED_CHUNK_BYTES + this.entities * ESTIMATED_ENTITY_BYTES
+                    + this.tileEntities * ESTIMATED_TILE_ENTITY_BYTES;
+        }
+    }
+
+}
@@ -0,0 +1,402 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world.gen;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
+import org.spongepowered.api.world.gen.PopulatorType;
+import org.spongepowered.common.SpongeImpl;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import javax.annotation.Nullable;
+
+/**
+ * Generates and populates square regions of chunks on the server thread
+ * without players having to visit them.
+ *
+ * <p>Chunks are generated in a spiral around the center so that every new
+ * chunk has already generated neighbours to populate with. The number of
+ * chunks generated per tick adapts to the recent tick times of the server,
+ * and progress is checkpointed to the world directory so an interrupted
+ * pregeneration resumes where it left off.</p>
+ */
+public final class ChunkPregenerator {
+
+    private static final ChunkPregenerator instance = new ChunkPregenerator();
+
+    private static final String CHECKPOINT_FILE_NAME = "sponge_pregen.properties";
+    private static final int CHECKPOINT_INTERVAL = 20 * 30;
+    private static final int MSPT_SAMPLE_TICKS = 20;
+
+    private final Map<WorldServer, Task> tasks = new LinkedHashMap<>();
+
+    public static ChunkPregenerator getInstance() {
+        return instance;
+    }
+
+    private ChunkPregenerator() {
+    }
+
+    /**
+     * Starts pregenerating the square of chunks around the given center,
+     * resuming from the checkpoint of the world if it describes the same
+     * region.
+     *
+     * @param world The world to generate chunks in
+     * @param centerX The chunk x coordinate of the center
+     * @param centerZ The chunk z coordinate of the center
+     * @param radius The radius in chunks
+     * @param maxChunksPerTick The maximum number of chunks generated per tick
+     * @param targetMspt The tick time in milliseconds above which generation is throttled
+     * @return The started task
+     */
+    public Task start(WorldServer world, int centerX, int centerZ, int radius, int maxChunksPerTick, double targetMspt) {
+        checkArgument(radius >= 0, "radius must not be negative");
+        checkArgument(maxChunksPerTick > 0, "maxChunksPerTick must be positive");
+        checkState(!this.tasks.containsKey(world), "A pregeneration is already running for %s", world.getWorldInfo().getWorldName());
+
+        final Task task = new Task(world, centerX, centerZ, radius, maxChunksPerTick, targetMspt);
+        task.resume();
+        this.tasks.put(world, task);
+        return task;
+    }
+
+    /**
+     * Stops the pregeneration running for the given world, keeping its
+     * checkpoint so that it can be resumed later.
+     *
+     * @param world The world
+     * @return True if a pregeneration was running
+     */
+    public boolean stop(WorldServer world) {
+        final Task task = this.tasks.remove(world);
+        if (task == null) {
+            return false;
+        }
+        task.writeCheckpoint();
+        return true;
+    }
+
+    /**
+     * Stops all running pregenerations, keeping their checkpoints.
+     */
+    public void stopAll() {
+        for (Task task : this.tasks.values()) {
+            task.writeCheckpoint();
+        }
+        this.tasks.clear();
+    }
+
+    /**
+     * Stops the pregeneration of a world that is being unloaded, writing its
+     * checkpoint so that it resumes once the world is loaded again.
+     *
+     * @param world The world
+     */
+    public void onWorldUnload(WorldServer world) {
+        if (stop(world)) {
+            SpongeImpl.getLogger().info("Stopped pregenerating world {} as it unloaded", world.getWorldInfo().getWorldName());
+        }
+    }
+
+    public Collection<Task> getTasks() {
+        return ImmutableList.copyOf(this.tasks.values());
+    }
+
+    public boolean isRunning() {
+        return !this.tasks.isEmpty();
+    }
+
+    /**
+     * Gets the pregeneration running for the given world.
+     *
+     * @param world The world
+     * @return The task, or null if the world is not being pregenerated
+     */
+    @Nullable
+    public Task getTask(World world) {
+        return this.tasks.get(world);
+    }
+
+    /**
+     * Generates the chunks of all running pregenerations for this tick.
+     * Called at the end of every server tick.
+     */
+    public void tick() {
+        if (this.tasks.isEmpty()) {
+            return;
+        }
+        final double mspt = getRecentMspt(SpongeImpl.getServer());
+        final long usedMemory = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+        this.tasks.values().removeIf(task -> {
+            task.memoryHighWater = Math.max(task.memoryHighWater, usedMemory);
+            if (!task.tick(mspt)) {
+                return false;
+            }
+            task.finish();
+            return true;
+        });
+    }
+
+    private static double getRecentMspt(MinecraftServer server) {
+        final int ticks = Math.min(MSPT_SAMPLE_TICKS, server.getTickCounter());
+        if (ticks == 0) {
+            return 0;
+        }
+        long total = 0;
+        // The slot of the current tick is only written after its end event, start at the previous tick
+        for (int i = 1; i <= ticks; i++) {
+            total += server.tickTimeArray[(server.getTickCounter() - i) % server.tickTimeArray.length];
+        }
+        return total / (double) ticks / 1.0E6D;
+    }
+
+    public static final class Task {
+
+        final WorldServer world;
+        private final int centerX;
+        private final int centerZ;
+        private final int radius;
+        private final int maxChunksPerTick;
+        private final double targetMspt;
+        private final long totalChunks;
+        // Chunks loaded by this task, in the order they were loaded
+        private final Deque<ChunkPos> loadedChunks = new ArrayDeque<>();
+        private final long startTime = System.nanoTime();
+        private final Map<String, long[]> populatorTimes = Maps.newHashMap();
+
+        // Spiral state, offsets from the center
+        private int x;
+        private int z;
+        private int dx = 1;
+        private int dz;
+        private int segmentLength = 1;
+        private int segmentPassed;
+        private long index;
+
+        private int budget;
+        private long generatedChunks;
+        private int ticksSinceCheckpoint;
+        long memoryHighWater;
+
+        Task(WorldServer world, int centerX, int centerZ, int radius, int maxChunksPerTick, double targetMspt) {
+            this.world = world;
+            this.centerX = centerX;
+            this.centerZ = centerZ;
+            this.radius = radius;
+            this.maxChunksPerTick = maxChunksPerTick;
+            this.targetMspt = targetMspt;
+            this.totalChunks = (2L * radius + 1) * (2L * radius + 1);
+            this.budget = maxChunksPerTick;
+        }
+
+        /**
+         * Generates the chunks of this task for the current tick.
+         *
+         * @param mspt The recent tick time in milliseconds
+         * @return True if all chunks have been generated
+         */
+        boolean tick(double mspt) {
+            // Back off quickly when the server is struggling, recover slowly
+            if (mspt > this.targetMspt) {
+                this.budget = Math.max(0, this.budget / 2);
+            } else if (this.budget < this.maxChunksPerTick) {
+                this.budget++;
+            }
+
+            final ChunkProviderServer chunkProvider = this.world.getChunkProvider();
+            for (int generated = 0; generated < this.budget && this.index < this.totalChunks; generated++) {
+                final int chunkX = this.centerX + this.x;
+                final int chunkZ = this.centerZ + this.z;
+                if (chunkProvider.getLoadedChunk(chunkX, chunkZ) == null) {
+                    chunkProvider.provideChunk(chunkX, chunkZ);
+                    this.loadedChunks.addLast(new ChunkPos(chunkX, chunkZ));
+                    // Chunks that were already loaded cost nothing and are not counted
+                    this.generatedChunks++;
+                }
+                advance();
+            }
+            // Keep about two rings of the spiral loaded, so new chunks find their neighbours in memory.
+            // A ring is about four segments long.
+            unloadChunks(chunkProvider, 8 * this.segmentLength + 8);
+
+            if (++this.ticksSinceCheckpoint >= CHECKPOINT_INTERVAL) {
+                writeCheckpoint();
+            }
+            return this.index >= this.totalChunks;
+        }
+
+        private void advance() {
+            this.index++;
+            this.x += this.dx;
+            this.z += this.dz;
+            if (++this.segmentPassed == this.segmentLength) {
+                this.segmentPassed = 0;
+                final int dx = this.dx;
+                this.dx = -this.dz;
+                this.dz = dx;
+                if (this.dz == 0) {
+                    this.segmentLength++;
+                }
+            }
+        }
+
+        private void unloadChunks(ChunkProviderServer chunkProvider, int keep) {
+            while (this.loadedChunks.size() > keep) {
+                final ChunkPos pos = this.loadedChunks.removeFirst();
+                if (this.world.getPlayerChunkMap().contains(pos.chunkXPos, pos.chunkZPos)) {
+                    continue;
+                }
+                final Chunk chunk = chunkProvider.getLoadedChunk(pos.chunkXPos, pos.chunkZPos);
+                if (chunk != null) {
+                    chunkProvider.unload(chunk);
+                }
+            }
+        }
+
+        void finish() {
+            unloadChunks(this.world.getChunkProvider(), 0);
+            getCheckpointFile().delete();
+            SpongeImpl.getLogger().info("Finished pregenerating {} chunks in world {} ({} chunks/s)", this.generatedChunks,
+                    this.world.getWorldInfo().getWorldName(), String.format("%.1f", getChunksPerSecond()));
+        }
+
+        void resume() {
+            final File file = getCheckpointFile();
+            if (!file.isFile()) {
+                return;
+            }
+            final Properties properties = new Properties();
+            try (InputStream in = new FileInputStream(file)) {
+                properties.load(in);
+            } catch (IOException e) {
+                SpongeImpl.getLogger().warn("Could not read pregeneration checkpoint {}", file, e);
+                return;
+            }
+            if (Integer.parseInt(properties.getProperty("centerX", "0")) != this.centerX
+                    || Integer.parseInt(properties.getProperty("centerZ", "0")) != this.centerZ
+                    || Integer.parseInt(properties.getProperty("radius", "-1")) != this.radius) {
+                return;
+            }
+            final long index = Long.parseLong(properties.getProperty("index", "0"));
+            while (this.index < index && this.index < this.totalChunks) {
+                advance();
+            }
+            SpongeImpl.getLogger().info("Resuming pregeneration of world {} at chunk {} of {}", this.world.getWorldInfo().getWorldName(),
+                    this.index, this.totalChunks);
+        }
+
+        void writeCheckpoint() {
+            this.ticksSinceCheckpoint = 0;
+            final Properties properties = new Properties();
+            properties.setProperty("centerX", Integer.toString(this.centerX));
+            properties.setProperty("centerZ", Integer.toString(this.centerZ));
+            properties.setProperty("radius", Integer.toString(this.radius));
+            properties.setProperty("index", Long.toString(this.index));
+            final File file = getCheckpointFile();
+            try (OutputStream out = new FileOutputStream(file)) {
+                properties.store(out, "Sponge pregeneration checkpoint");
+            } catch (IOException e) {
+                SpongeImpl.getLogger().warn("Could not write pregeneration checkpoint {}", file, e);
+            }
+        }
+
+        private File getCheckpointFile() {
+            return new File(this.world.getSaveHandler().getWorldDirectory(), CHECKPOINT_FILE_NAME);
+        }
+
+        public WorldServer getWorld() {
+            return this.world;
+        }
+
+        public long getCompletedChunks() {
+            return this.index;
+        }
+
+        public long getTotalChunks() {
+            return this.totalChunks;
+        }
+
+        public int getChunksPerTick() {
+            return this.budget;
+        }
+
+        public double getChunksPerSecond() {
+            final double seconds = (System.nanoTime() - this.startTime) / 1.0E9D;
+            return seconds <= 0 ? 0 : this.generatedChunks / seconds;
+        }
+
+        public long getMemoryHighWater() {
+            return this.memoryHighWater;
+        }
+
+        void recordPopulator(PopulatorType type, long nanos) {
+            long[] times = this.populatorTimes.get(type.getId());
+            if (times == null) {
+                times = new long[2];
+                this.populatorTimes.put(type.getId(), times);
+            }
+            times[0]++;
+            times[1] += nanos;
+        }
+
+        /**
+         * Gets the average time in milliseconds each populator type has taken
+         * to populate a chunk of this pregeneration.
+         *
+         * @return The average populate times by populator type id
+         */
+        public Map<String, Double> getAveragePopulatorTimes() {
+            final ImmutableMap.Builder<String, Double> builder = ImmutableMap.builder();
+            for (Map.Entry<String, long[]> entry : this.populatorTimes.entrySet()) {
+                builder.put(entry.getKey(), entry.getValue()[1] / (double) entry.getValue()[0] / 1.0E6D);
+            }
+            return builder.build();
+        }
+    }
+
+}
@@ -31,6 +31,7 @@
 import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import net.minecraft.block.BlockFalling;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -101,10 +102,14 @@
 import org.spongepowered.mod.SpongeMod;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
 
 /**
  * Similar class to {@link SpongeChunkGenerator}, but instead gets its blocks
@@ -112,6 +117,8 @@
  */
 public final class SpongeChunkGeneratorForge extends SpongeChunkGenerator {
 
+    private final Map<BiomeType, OrderedPopulators> orderedPopulators = Maps.newHashMap();
+
     public SpongeChunkGeneratorForge(World world, GenerationPopulator generationPopulator, BiomeGenerator biomeGenerator) {
         super(world, generationPopulator, biomeGenerator);
 
@@ -160,23 +167,14 @@ public void populate(int chunkX, int chunkZ) {
             this.biomeSettings.put(biome, ((IBiomeGenBase) biome).initPopulators(this.world));
         }
 
-        List<Populator> populators = new ArrayList<>(this.pop);
-
-        Populator snowPopulator = null;
-        Iterator<Populator> itr = populators.iterator();
-        while (itr.hasNext()) {
-            Populator populator = itr.next();
-            if (populator instanceof SnowPopulator) {
-                itr.remove();
-                snowPopulator = populator;
-                break;
-            }
-        }
-
-        populators.addAll(this.biomeSettings.get(biome).getPopulators());
-        if (snowPopulator != null) {
-            populators.add(snowPopulator);
+        List<Populator> biomePopulators = this.biomeSettings.get(biome).getPopulators();
+        OrderedPopulators orderedPopulators = this.orderedPopulators.get(biome);
+        if (orderedPopulators == null || !orderedPopulators.isFor(this.pop, biomePopulators)) {
+            orderedPopulators = new OrderedPopulators(this.pop, biomePopulators, this::getForgeEventType);
+            this.orderedPopulators.put(biome, orderedPopulators);
         }
+        // Plugins may change the pending populators of this chunk, so they get their own copy
+        List<Populator> populators = new ArrayList<>(orderedPopulators.getPopulators());
 
         Sponge.getGame().getEventManager().post(SpongeEventFactory.createPopulateChunkEventPre(populateCause, populators, chunk));
 
@@ -186,9 +184,15 @@ public void populate(int chunkX, int chunkZ) {
         List<String> flags = Lists.newArrayList();
         Vector3i min = new Vector3i(chunkX * 16 + 8, 0, chunkZ * 16 + 8);
         org.spongepowered.api.world.World spongeWorld = (org.spongepowered.api.world.World) this.world;
+        final ChunkPregenerator.Task pregenTask = ChunkPregenerator.getInstance().getTask(this.world);
         Extent volume = new SoftBufferExtentViewDownsize(chunk.getWorld(), min, min.add(15, 255, 15), min.sub(8, 0, 8), min.add(23, 255, 23));
-        for (Populator populator : populators) {
-            if (!checkForgeEvent(populator, this, chunkX, chunkZ, flags, chunk)) {
+        for (int index = 0; index < populators.size(); index++) {
+            final Populator populator = populators.get(index);
+            // Populators that were added or moved by plugins are classified again
+            final Enum<?> forgeEventType = orderedPopulators.hasForgeEventType(index, populator)
+                    ? orderedPopulators.getForgeEventType(index)
+                    : getForgeEventType(populator);
+            if (!checkForgeEvent(populator, forgeEventType, this, chunkX, chunkZ, flags, chunk)) {
                 continue;
             }
             final PopulatorType type = populator.getType();
@@ -213,11 +217,15 @@ public void populate(int chunkX, int chunkZ) {
                 }
                 timing.startTimingIfSync();
             }
+            final long populateStart = pregenTask != null ? System.nanoTime() : 0;
             if (populator instanceof IFlaggedPopulator) {
                 ((IFlaggedPopulator) populator).populate(volume, spongeWorld, this.rand, flags);
             } else {
                 populator.populate(spongeWorld, volume, this.rand);
             }
+            if (pregenTask != null && type != null) {
+                pregenTask.recordPopulator(type, System.nanoTime() - populateStart);
+            }
             if (CauseTracker.ENABLED) {
                 causeTracker.completePhase();
             }
@@ -255,67 +263,103 @@ public void populate(int chunkX, int chunkZ) {
         ((IMixinWorldServer) spongeWorld).getTimingsHandler().chunkPopulate.stopTimingIfSync();
     }
 
-    private boolean checkForgeEvent(Populator populator, IChunkGenerator chunkProvider, int chunkX, int chunkZ, List<String> flags, Chunk chunk) {
-        boolean village_flag = flags.contains(WorldGenConstants.VILLAGE_FLAG);
+    private boolean checkForgeEvent(Populator populator, @Nullable Enum<?> eventType, IChunkGenerator chunkProvider, int chunkX, int chunkZ,
+            List<String> flags, Chunk chunk) {
+        if (eventType instanceof GenerateMinable.EventType) {
+            return TerrainGen.generateOre((net.minecraft.world.World) chunk.getWorld(), this.rand, (WorldGenerator) populator,
+                    VecHelper.toBlockPos(chunk.getBlockMin()), (GenerateMinable.EventType) eventType);
+        }
+        if (eventType instanceof Populate.EventType) {
+            boolean village_flag = flags.contains(WorldGenConstants.VILLAGE_FLAG);
+            return TerrainGen.populate(chunkProvider, (net.minecraft.world.World) chunk.getWorld(), this.rand, chunkX, chunkZ, village_flag,
+                    (Populate.EventType) eventType);
+        }
+        if (eventType instanceof Decorate.EventType) {
+            return TerrainGen.decorate((net.minecraft.world.World) chunk.getWorld(), this.rand, VecHelper.toBlockPos(chunk.getBlockMin()),
+                    (Decorate.EventType) eventType);
+        }
+        return true;
+    }
+
+    /**
+     * Gets the Forge ore, populate or decorate event type that is fired for
+     * the given populator.
+     *
+     * @param populator The populator
+     * @return The event type, or null if no Forge event is fired
+     */
+    @Nullable
+    private Enum<?> getForgeEventType(Populator populator) {
         if (populator instanceof Ore && populator instanceof WorldGenerator) {
-            BlockType type = ((Ore) populator).getOreBlock().getType();
-            GenerateMinable.EventType otype = null;
-            if (type.equals(BlockTypes.DIRT)) {
-                otype = GenerateMinable.EventType.DIRT;
-            } else if (type.equals(BlockTypes.GRAVEL)) {
-                otype = GenerateMinable.EventType.DIRT;
-            } else if (type.equals(BlockTypes.STONE)) {
-                BlockState state = ((Ore) populator).getOreBlock();
-                Optional<StoneType> stype;
-                if ((stype = state.get(Keys.STONE_TYPE)).isPresent()) {
-                    StoneType stoneType = stype.get();
-                    if (stoneType.equals(StoneTypes.DIORITE)) {
-                        otype = GenerateMinable.EventType.DIORITE;
-                    } else if (stoneType.equals(StoneTypes.ANDESITE)) {
-                        otype = GenerateMinable.EventType.ANDESITE;
-                    } else if (stoneType.equals(StoneTypes.GRANITE)) {
-                        otype = GenerateMinable.EventType.GRANITE;
-                    } else {
-                        return true;
-                    }
-                }
-            } else if (type.equals(BlockTypes.COAL_ORE)) {
-                otype = GenerateMinable.EventType.COAL;
-            } else if (type.equals(BlockTypes.IRON_ORE)) {
-                otype = GenerateMinable.EventType.IRON;
-            } else if (type.equals(BlockTypes.GOLD_ORE)) {
-                otype = GenerateMinable.EventType.GOLD;
-            } else if (type.equals(BlockTypes.REDSTONE_ORE)) {
-                otype = GenerateMinable.EventType.REDSTONE;
-            } else if (type.equals(BlockTypes.DIAMOND_ORE)) {
-                otype = GenerateMinable.EventType.DIAMOND;
-            } else if (type.equals(BlockTypes.LAPIS_ORE)) {
-                otype = GenerateMinable.EventType.LAPIS;
-            } else if (type.equals(BlockTypes.QUARTZ_ORE)) {
-                otype = GenerateMinable.EventType.QUARTZ;
-            } else if(type.equals(BlockTypes.EMERALD_ORE)) {
-                otype = GenerateMinable.EventType.EMERALD;
-            } else if(type.equals(BlockTypes.MONSTER_EGG)) {
-                otype = GenerateMinable.EventType.SILVERFISH;
-            }
-            if (otype != null) {
-                return TerrainGen.generateOre((net.minecraft.world.World) chunk.getWorld(), this.rand, (WorldGenerator) populator,
-                        VecHelper.toBlockPos(chunk.getBlockMin()), otype);
-            }
-            return true;
+            return getForgeOreEventTypeForPopulator((Ore) populator);
         }
-        Populate.EventType etype = getForgeEventTypeForPopulator(populator, chunk);
+        Populate.EventType etype = getForgeEventTypeForPopulator(populator);
         if (etype != null) {
-            return TerrainGen.populate(chunkProvider, (net.minecraft.world.World) chunk.getWorld(), this.rand, chunkX, chunkZ, village_flag, etype);
+            return etype;
         }
-        Decorate.EventType detype = getForgeDecorateEventTypeForPopulator(populator, chunk);
-        if (detype != null) {
-            return TerrainGen.decorate((net.minecraft.world.World) chunk.getWorld(), this.rand, VecHelper.toBlockPos(chunk.getBlockMin()), detype);
+        return getForgeDecorateEventTypeForPopulator(populator);
+    }
+
+    /**
+     * Gets whether the Forge event type of the given populator depends on
+     * its settings, such as the block of an ore populator, rather than only
+     * on its class. Plugins may change these settings at any time.
+     *
+     * @param populator The populator
+     * @return Whether the event type must be looked up on every run
+     */
+    private static boolean hasMutableForgeEventType(Populator populator) {
+        return populator instanceof Ore || populator instanceof Lake || populator instanceof RandomBlock || populator instanceof SeaFloor;
+    }
+
+    @Nullable
+    private GenerateMinable.EventType getForgeOreEventTypeForPopulator(Ore populator) {
+        BlockType type = populator.getOreBlock().getType();
+        if (type.equals(BlockTypes.DIRT)) {
+            return GenerateMinable.EventType.DIRT;
+        } else if (type.equals(BlockTypes.GRAVEL)) {
+            return GenerateMinable.EventType.DIRT;
+        } else if (type.equals(BlockTypes.STONE)) {
+            BlockState state = populator.getOreBlock();
+            Optional<StoneType> stype;
+            if ((stype = state.get(Keys.STONE_TYPE)).isPresent()) {
+                StoneType stoneType = stype.get();
+                if (stoneType.equals(StoneTypes.DIORITE)) {
+                    return GenerateMinable.EventType.DIORITE;
+                } else if (stoneType.equals(StoneTypes.ANDESITE)) {
+                    return GenerateMinable.EventType.ANDESITE;
+                } else if (stoneType.equals(StoneTypes.GRANITE)) {
+                    return GenerateMinable.EventType.GRANITE;
+                }
+            }
+        } else if (type.equals(BlockTypes.COAL_ORE)) {
+            return GenerateMinable.EventType.COAL;
+        } else if (type.equals(BlockTypes.IRON_ORE)) {
+            return GenerateMinable.EventType.IRON;
+        } else if (type.equals(BlockTypes.GOLD_ORE)) {
+            return GenerateMinable.EventType.GOLD;
+        } else if (type.equals(BlockTypes.REDSTONE_ORE)) {
+            return GenerateMinable.EventType.REDSTONE;
+        } else if (type.equals(BlockTypes.DIAMOND_ORE)) {
+            return GenerateMinable.EventType.DIAMOND;
+        } else if (type.equals(BlockTypes.LAPIS_ORE)) {
+            return GenerateMinable.EventType.LAPIS;
+        } else if (type.equals(BlockTypes.QUARTZ_ORE)) {
+            return GenerateMinable.EventType.QUARTZ;
+        } else if (type.equals(BlockTypes.EMERALD_ORE)) {
+            return GenerateMinable.EventType.EMERALD;
+        } else if (type.equals(BlockTypes.MONSTER_EGG)) {
+            return GenerateMinable.EventType.SILVERFISH;
         }
-        return true;
+        return null;
     }
 
-    private Populate.EventType getForgeEventTypeForPopulator(Populator populator, Chunk chunk) {
+    private boolean isNether() {
+        return ((org.spongepowered.api.world.World) this.world).getProperties().getGeneratorType().equals(GeneratorTypes.NETHER);
+    }
+
+    @Nullable
+    private Populate.EventType getForgeEventTypeForPopulator(Populator populator) {
         if (populator instanceof Lake) {
             if (((Lake) populator).getLiquidType().getType().equals(BlockTypes.LAVA)
                     || ((Lake) populator).getLiquidType().getType().equals(BlockTypes.FLOWING_LAVA)) {
@@ -338,7 +382,7 @@ private Populate.EventType getForgeEventTypeForPopulator(Populator populator, Ch
         if (populator instanceof RandomBlock) {
             BlockType type = ((RandomBlock) populator).getBlock().getType();
             if (type.equals(BlockTypes.FLOWING_LAVA) || type.equals(BlockTypes.LAVA)) {
-                if (chunk.getWorld().getProperties().getGeneratorType().equals(GeneratorTypes.NETHER)) {
+                if (isNether()) {
                     if (((RandomBlock) populator).getPlacementTarget().equals(WorldGenConstants.HELL_LAVA_ENCLOSED)) {
                         return Populate.EventType.NETHER_LAVA2;
                     }
@@ -346,7 +390,7 @@ private Populate.EventType getForgeEventTypeForPopulator(Populator populator, Ch
                 }
                 return null;
             } else if (type.equals(BlockTypes.FIRE)) {
-                if (chunk.getWorld().getProperties().getGeneratorType().equals(GeneratorTypes.NETHER)) {
+                if (isNether()) {
                     return Populate.EventType.FIRE;
                 }
                 return null;
@@ -357,7 +401,8 @@ private Populate.EventType getForgeEventTypeForPopulator(Populator populator, Ch
         return null;
     }
 
-    private Decorate.EventType getForgeDecorateEventTypeForPopulator(Populator populator, Chunk chunk) {
+    @Nullable
+    private Decorate.EventType getForgeDecorateEventTypeForPopulator(Populator populator) {
         if (populator instanceof SeaFloor) {
             BlockType type = ((SeaFloor) populator).getBlock().getType();
             if (type.equals(BlockTypes.SAND)) {
@@ -405,7 +450,7 @@ private Decorate.EventType getForgeDecorateEventTypeForPopulator(Populator popul
             if (type.equals(BlockTypes.FLOWING_WATER) || type.equals(BlockTypes.WATER)) {
                 return Decorate.EventType.LAKE_WATER;
             } else if (type.equals(BlockTypes.FLOWING_LAVA) || type.equals(BlockTypes.LAVA)) {
-                if (chunk.getWorld().getProperties().getGeneratorType().equals(GeneratorTypes.NETHER)) {
+                if (isNether()) {
                     return null;
                 }
                 return Decorate.EventType.LAKE_LAVA;
@@ -416,6 +461,87 @@ private Decorate.EventType getForgeDecorateEventTypeForPopulator(Populator popul
         return null;
     }
 
+    /**
+     * The populators of a biome in the order they run in, with the snow
+     * populator moved to the end, along with the Forge event type of each
+     * populator. An instance stays valid for as long as the generator and
+     * biome populator lists hold the same populators. Event types are only
+     * kept for populators whose type depends on their class alone, as a
+     * populator changed in place, such as by {@link Ore#setOreBlock}, is
+     * still the same populator.
+     */
+    private static final class OrderedPopulators {
+
+        private final Populator[] generatorPopulators;
+        private final Populator[] biomePopulators;
+        private final List<Populator> populators;
+        private final Enum<?>[] forgeEventTypes;
+        private final boolean[] hasForgeEventType;
+
+        OrderedPopulators(List<Populator> generatorPopulators, List<Populator> biomePopulators,
+                Function<Populator, Enum<?>> forgeEventTypes) {
+            this.generatorPopulators = generatorPopulators.toArray(new Populator[generatorPopulators.size()]);
+            this.biomePopulators = biomePopulators.toArray(new Populator[biomePopulators.size()]);
+
+            List<Populator> populators = new ArrayList<>(this.generatorPopulators.length + this.biomePopulators.length);
+            Populator snowPopulator = null;
+            for (Populator populator : this.generatorPopulators) {
+                if (snowPopulator == null && populator instanceof SnowPopulator) {
+                    snowPopulator = populator;
+                } else {
+                    populators.add(populator);
+                }
+            }
+            Collections.addAll(populators, this.biomePopulators);
+            if (snowPopulator != null) {
+                populators.add(snowPopulator);
+            }
+            this.populators = Collections.unmodifiableList(populators);
+            this.forgeEventTypes = new Enum<?>[populators.size()];
+            this.hasForgeEventType = new boolean[populators.size()];
+            for (int i = 0; i < this.forgeEventTypes.length; i++) {
+                final Populator populator = populators.get(i);
+                if (!hasMutableForgeEventType(populator)) {
+                    this.forgeEventTypes[i] = forgeEventTypes.apply(populator);
+                    this.hasForgeEventType[i] = true;
+                }
+            }
+        }
+
+        boolean isFor(List<Populator> generatorPopulators, List<Populator> biomePopulators) {
+            return matches(this.generatorPopulators, generatorPopulators) && matches(this.biomePopulators, biomePopulators);
+        }
+
+        List<Populator> getPopulators() {
+            return this.populators;
+        }
+
+        /**
+         * Gets whether the given populator is still at the given index of the
+         * pending populators and its Forge event type is kept.
+         */
+        boolean hasForgeEventType(int index, Populator populator) {
+            return index < this.forgeEventTypes.length && this.populators.get(index) == populator && this.hasForgeEventType[index];
+        }
+
+        @Nullable
+        Enum<?> getForgeEventType(int index) {
+            return this.forgeEventTypes[index];
+        }
+
+        private static boolean matches(Populator[] snapshot, List<Populator> populators) {
+            if (snapshot.length != populators.size()) {
+                return false;
+            }
+            for (int i = 0; i < snapshot.length; i++) {
+                if (snapshot[i] != populators.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     @Override
     public String toString() {
         return Objects.toStringHelper(this)
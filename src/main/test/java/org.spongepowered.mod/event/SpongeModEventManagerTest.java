@@ -1,5 +1,6 @@
 package org.spongepowered.mod.event;
 
+import com.google.common.collect.ImmutableList;
 import net.minecraft.launchwrapper.Launch;
 import net.minecraft.launchwrapper.LaunchClassLoader;
 import net.minecraftforge.common.MinecraftForge;
@@ -12,14 +13,20 @@
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.spongepowered.api.Sponge;
+import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventManager;
 import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.NamedCause;
 import org.spongepowered.api.event.entity.SpawnEntityEvent;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.plugin.PluginManager;
+import org.spongepowered.common.event.RegisteredListener;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeEventManager;
 
@@ -29,16 +36,18 @@
 import java.util.Optional;
 
 @RunWith(PowerMockRunner.class)
-@PrepareForTest(Loader.class)
+@PrepareForTest({Loader.class, RegisteredListener.class, RegisteredListener.Cache.class})
 public class SpongeModEventManagerTest {
 
     private EventManager eventManager;
+    private PluginManager pluginManager;
     private Object plugin;
     private PluginContainer container;
 
     @Before
     public void init() throws Exception {
         PluginManager manager = Mockito.mock(PluginManager.class);
+        this.pluginManager = manager;
         this.eventManager = new SpongeEventManager(manager);
 
         this.plugin = new Object();
@@ -78,6 +87,79 @@ public void testSpawn() throws ClassNotFoundException {
         Assert.assertTrue("SPAWN_ENTITY_EVENT is not true!", ShouldFire.SPAWN_ENTITY_EVENT);
     }
 
+    @Test
+    public void testDispatchPlanGroupsListenersByPlugin() {
+        PluginContainer first = Mockito.mock(PluginContainer.class);
+        PluginContainer second = Mockito.mock(PluginContainer.class);
+        RegisteredListener<?> early = mockListener(second, false);
+        RegisteredListener<?> firstA = mockListener(first, false);
+        RegisteredListener<?> secondA = mockListener(second, false);
+        RegisteredListener<?> firstB = mockListener(first, true);
+        RegisteredListener<?> late = mockListener(first, false);
+
+        RegisteredListener.Cache cache = PowerMockito.mock(RegisteredListener.Cache.class);
+        Mockito.when(cache.getListenersByOrder(Order.PRE)).thenReturn(ImmutableList.<RegisteredListener<?>>of(early));
+        Mockito.when(cache.getListenersByOrder(Order.DEFAULT)).thenReturn(ImmutableList.<RegisteredListener<?>>of(firstA, secondA, firstB));
+        Mockito.when(cache.getListenersByOrder(Order.POST)).thenReturn(ImmutableList.<RegisteredListener<?>>of(late));
+
+        EventDispatchPlan plan = new EventDispatchPlan(cache, null, false, -1);
+        // Orders are kept, listeners of the same plugin are only grouped within an order
+        Assert.assertArrayEquals(new RegisteredListener<?>[] {early, firstA, firstB, secondA, late}, plan.getListeners());
+        Assert.assertArrayEquals(new RegisteredListener<?>[] {firstB}, plan.getPreModificationListeners());
+        Assert.assertArrayEquals(new RegisteredListener<?>[] {early, firstA, secondA, late}, plan.getPostModificationListeners());
+        Assert.assertTrue("Plan has no listeners!", plan.hasListeners());
+        Assert.assertSame("Plan is not for its listener cache!", cache, plan.getListenerCache());
+    }
+
+    @Test
+    public void testDispatchPlanKeepsFirstPluginOrder() {
+        PluginContainer first = Mockito.mock(PluginContainer.class);
+        PluginContainer second = Mockito.mock(PluginContainer.class);
+        RegisteredListener<?> secondA = mockListener(second, false);
+        RegisteredListener<?> firstA = mockListener(first, false);
+        RegisteredListener<?> secondB = mockListener(second, false);
+        RegisteredListener<?> firstB = mockListener(first, false);
+
+        RegisteredListener.Cache cache = PowerMockito.mock(RegisteredListener.Cache.class);
+        Mockito.when(cache.getListenersByOrder(Order.DEFAULT))
+                .thenReturn(ImmutableList.<RegisteredListener<?>>of(secondA, firstA, secondB, firstB));
+
+        EventDispatchPlan plan = new EventDispatchPlan(cache, null, false, -1);
+        // Plugins run in the order of their first listener, each plugin's listeners keep their order
+        Assert.assertArrayEquals(new RegisteredListener<?>[] {secondA, secondB, firstA, firstB}, plan.getListeners());
+    }
+
+    @Test
+    public void testDispatchPlanRebuiltWhenListenersChange() {
+        SpongeModEventManager modEventManager = new SpongeModEventManager(this.pluginManager);
+        TestEvent event = new TestEvent();
+
+        Assert.assertFalse("Event has plugin listeners!", modEventManager.hasPluginListeners(event));
+        modEventManager.registerListener(this.plugin, TestEvent.class, e -> {});
+        Assert.assertTrue("Event has no plugin listeners after registering one!", modEventManager.hasPluginListeners(event));
+        modEventManager.unregisterPluginListeners(this.plugin);
+        Assert.assertFalse("Event has plugin listeners after unregistering them!", modEventManager.hasPluginListeners(event));
+    }
+
+    private static RegisteredListener<?> mockListener(PluginContainer plugin, boolean beforeModifications) {
+        RegisteredListener<?> listener = PowerMockito.mock(RegisteredListener.class);
+        Mockito.when(listener.getPlugin()).thenReturn(plugin);
+        Mockito.when(listener.isBeforeModifications()).thenReturn(beforeModifications);
+        return listener;
+    }
+
+    // Extends a class so the dispatch plan does not look for a matching Forge event
+    private abstract static class AbstractTestEvent implements Event {
+
+        @Override
+        public Cause getCause() {
+            return Cause.of(NamedCause.source(this));
+        }
+    }
+
+    public static class TestEvent extends AbstractTestEvent {
+    }
+
     private static class SpawnListener {
 
         @Listener